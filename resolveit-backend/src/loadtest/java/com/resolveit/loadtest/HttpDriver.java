@@ -0,0 +1,58 @@
+package com.resolveit.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+
+/**
+ * Drives a running instance over HTTP through the complaint feed endpoints.
+ * Only read operations are exposed over HTTP, so the workload mix is limited
+ * to those. Complaint ids are assumed to be 1..complaints. Requests use
+ * HTTP basic with a stored account; users seeded by an in-process run have
+ * the password "loadtest".
+ */
+public class HttpDriver implements WorkloadDriver {
+
+    private final WorkloadConfig config;
+    private final HttpClient client = HttpClient.newBuilder()
+        .connectTimeout(Duration.ofSeconds(5))
+        .build();
+    private final String authorization;
+
+    private ZipfDistribution complaintPopularity;
+
+    public HttpDriver(WorkloadConfig config) {
+        this.config = config;
+        this.authorization = "Basic " + Base64.getEncoder().encodeToString(
+            (config.getHttpUsername() + ":" + config.getHttpPassword()).getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void prepare() {
+        complaintPopularity = new ZipfDistribution(config.getComplaints(), config.getZipfExponent());
+    }
+
+    @Override
+    public void execute(Operation operation) throws Exception {
+        String path = switch (operation) {
+            case DASHBOARD -> "/api/feed/complaints?page=0&size=20";
+            case HISTORY -> "/api/feed/complaints/" + (complaintPopularity.sample() + 1) + "/history";
+            default -> throw new UnsupportedOperationException(operation + " is not available over HTTP");
+        };
+        HttpRequest request = HttpRequest.newBuilder(URI.create(config.getBaseUrl() + path))
+            .header("Accept", config.getHttpAccept())
+            .header("Accept-Encoding", "gzip")
+            .header("Authorization", authorization)
+            .timeout(Duration.ofSeconds(30))
+            .GET()
+            .build();
+        HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() >= 400) {
+            throw new IllegalStateException(operation + " returned HTTP " + response.statusCode());
+        }
+    }
+}
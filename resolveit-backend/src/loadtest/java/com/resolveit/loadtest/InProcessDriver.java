@@ -0,0 +1,140 @@
+package com.resolveit.loadtest;
+
+import com.resolveit.model.Complaint;
+import com.resolveit.model.User;
+import com.resolveit.service.ComplaintService;
+import com.resolveit.service.UserService;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Drives ComplaintService and UserService directly inside the application
+ * context, exercising the full service, JPA and connection pool path
+ * without HTTP overhead. Seeded users are created with notifications off;
+ * existing users keep their preferences, so the runner swaps in a no-op
+ * mail sender before anything is sent.
+ */
+public class InProcessDriver implements WorkloadDriver {
+
+    private static final String[] KEYWORDS = {
+        "billing", "refund", "login", "outage", "delay", "invoice", "password", "service", "charge", "support"
+    };
+
+    private final WorkloadConfig config;
+    private final ComplaintService complaintService;
+    private final UserService userService;
+
+    private List<User> users;
+    private List<User> moderators;
+    private long[] complaintIds;
+    private ZipfDistribution userPopularity;
+    private ZipfDistribution moderatorPopularity;
+    private ZipfDistribution complaintPopularity;
+
+    public InProcessDriver(WorkloadConfig config, ComplaintService complaintService, UserService userService) {
+        this.config = config;
+        this.complaintService = complaintService;
+        this.userService = userService;
+    }
+
+    @Override
+    public void prepare() {
+        if (config.isSeed()) {
+            seed();
+        } else {
+            loadExisting();
+        }
+        userPopularity = new ZipfDistribution(users.size(), config.getZipfExponent());
+        moderatorPopularity = new ZipfDistribution(moderators.size(), config.getZipfExponent());
+        complaintPopularity = new ZipfDistribution(complaintIds.length, config.getZipfExponent());
+    }
+
+    @Override
+    public void execute(Operation operation) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        switch (operation) {
+            case SUBMIT -> {
+                User user = users.get(userPopularity.sample());
+                complaintService.createComplaint(newComplaint(user, random));
+            }
+            case TRANSITION -> {
+                Complaint.Status[] statuses = Complaint.Status.values();
+                complaintService.updateComplaintStatus(nextComplaintId(),
+                    statuses[random.nextInt(statuses.length)], nextModerator(), "Load test transition");
+            }
+            case ASSIGN -> complaintService.assignComplaint(nextComplaintId(), nextModerator(), nextModerator());
+            case NOTE -> complaintService.addInternalNote(nextComplaintId(), "Load test note " + random.nextInt(),
+                nextModerator(), random.nextBoolean());
+            case SEARCH -> complaintService.searchComplaints(KEYWORDS[random.nextInt(KEYWORDS.length)],
+                PageRequest.of(0, 20)).getContent();
+            case DASHBOARD -> {
+                complaintService.getComplaintSummaries(null,
+                    PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt")));
+                complaintService.getComplaintsByStatus();
+                complaintService.getComplaintsByCategory();
+                userService.findById(users.get(userPopularity.sample()).getId());
+            }
+            case HISTORY -> complaintService.getComplaintHistoryEntries(nextComplaintId());
+        }
+    }
+
+    private void seed() {
+        String run = Long.toString(System.currentTimeMillis(), 36);
+        users = new ArrayList<>(config.getUsers());
+        for (int i = 0; i < config.getUsers(); i++) {
+            users.add(userService.createUser(newUser("lt" + run + "u" + i, User.Role.USER)));
+        }
+        moderators = new ArrayList<>(config.getModerators());
+        for (int i = 0; i < config.getModerators(); i++) {
+            moderators.add(userService.createUser(newUser("lt" + run + "m" + i, User.Role.MODERATOR)));
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        complaintIds = new long[config.getComplaints()];
+        for (int i = 0; i < complaintIds.length; i++) {
+            User user = users.get(random.nextInt(users.size()));
+            complaintIds[i] = complaintService.createComplaint(newComplaint(user, random)).getId();
+        }
+    }
+
+    private void loadExisting() {
+        users = new ArrayList<>();
+        moderators = new ArrayList<>();
+        for (User user : userService.getAllUsers()) {
+            (user.getRole() == User.Role.USER ? users : moderators).add(user);
+        }
+        complaintIds = complaintService.getAllComplaints(PageRequest.of(0, config.getComplaints()))
+            .getContent().stream().mapToLong(Complaint::getId).toArray();
+        if (users.isEmpty() || moderators.isEmpty() || complaintIds.length == 0) {
+            throw new IllegalStateException("Existing data has no users, moderators or complaints; run with seeding");
+        }
+    }
+
+    private long nextComplaintId() {
+        return complaintIds[complaintPopularity.sample()];
+    }
+
+    private User nextModerator() {
+        return moderators.get(moderatorPopularity.sample());
+    }
+
+    private static User newUser(String username, User.Role role) {
+        User user = new User(username, username + "@loadtest.invalid", "loadtest", "Load", username);
+        user.setRole(role);
+        user.setNotificationPreference(User.NotificationPreference.NONE);
+        return user;
+    }
+
+    private static Complaint newComplaint(User user, ThreadLocalRandom random) {
+        Complaint.Category[] categories = Complaint.Category.values();
+        Complaint complaint = new Complaint(
+            "Synthetic " + KEYWORDS[random.nextInt(KEYWORDS.length)] + " issue",
+            "Generated by the load test harness, " + KEYWORDS[random.nextInt(KEYWORDS.length)] + " related.",
+            categories[random.nextInt(categories.length)],
+            user);
+        complaint.setPriority(Complaint.Priority.values()[random.nextInt(Complaint.Priority.values().length)]);
+        return complaint;
+    }
+}
@@ -0,0 +1,113 @@
+package com.resolveit.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import java.io.PrintStream;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-operation HDR latency histograms. Two latencies are kept for every
+ * operation: response time measured from the intended start on the open-loop
+ * schedule (corrected for coordinated omission) and plain service time
+ * measured from the actual start, so queueing delay is visible as the gap
+ * between the two.
+ */
+public class LatencyRecorder {
+
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(10);
+
+    private final Map<Operation, Recorder> responseRecorders = new EnumMap<>(Operation.class);
+    private final Map<Operation, Recorder> serviceRecorders = new EnumMap<>(Operation.class);
+    private final Map<Operation, Histogram> responseTotals = new EnumMap<>(Operation.class);
+    private final Map<Operation, Histogram> serviceTotals = new EnumMap<>(Operation.class);
+    private final Map<Operation, AtomicLong> errors = new EnumMap<>(Operation.class);
+
+    public LatencyRecorder() {
+        for (Operation operation : Operation.values()) {
+            responseRecorders.put(operation, new Recorder(HIGHEST_TRACKABLE_NANOS, 3));
+            serviceRecorders.put(operation, new Recorder(HIGHEST_TRACKABLE_NANOS, 3));
+            responseTotals.put(operation, new Histogram(HIGHEST_TRACKABLE_NANOS, 3));
+            serviceTotals.put(operation, new Histogram(HIGHEST_TRACKABLE_NANOS, 3));
+            errors.put(operation, new AtomicLong());
+        }
+    }
+
+    public void record(Operation operation, long intendedStartNanos, long actualStartNanos, long endNanos) {
+        responseRecorders.get(operation).recordValue(clamp(endNanos - intendedStartNanos));
+        serviceRecorders.get(operation).recordValue(clamp(endNanos - actualStartNanos));
+    }
+
+    public void recordError(Operation operation) {
+        errors.get(operation).incrementAndGet();
+    }
+
+    /**
+     * Drops everything recorded so far, used to discard the warmup phase.
+     */
+    public synchronized void reset() {
+        for (Operation operation : Operation.values()) {
+            responseRecorders.get(operation).reset();
+            serviceRecorders.get(operation).reset();
+            responseTotals.get(operation).reset();
+            serviceTotals.get(operation).reset();
+            errors.get(operation).set(0);
+        }
+    }
+
+    /**
+     * Prints latencies recorded since the previous call and folds them into
+     * the run totals.
+     */
+    public synchronized void printInterval(PrintStream out, double intervalSeconds) {
+        out.println(header("interval"));
+        for (Operation operation : Operation.values()) {
+            Histogram response = responseRecorders.get(operation).getIntervalHistogram();
+            Histogram service = serviceRecorders.get(operation).getIntervalHistogram();
+            responseTotals.get(operation).add(response);
+            serviceTotals.get(operation).add(service);
+            if (response.getTotalCount() > 0) {
+                out.println(row(operation, response, service, response.getTotalCount() / intervalSeconds, -1));
+            }
+        }
+    }
+
+    public synchronized void printSummary(PrintStream out, double elapsedSeconds) {
+        out.println(header("summary"));
+        for (Operation operation : Operation.values()) {
+            Histogram response = responseTotals.get(operation);
+            if (response.getTotalCount() > 0 || errors.get(operation).get() > 0) {
+                out.println(row(operation, response, serviceTotals.get(operation),
+                    response.getTotalCount() / elapsedSeconds, errors.get(operation).get()));
+            }
+        }
+    }
+
+    private static String header(String title) {
+        return String.format("-- %s (ms; response time from intended start / service time) --%n"
+                + "%-11s %9s %9s %17s %17s %17s %17s %17s %7s",
+            title, "operation", "count", "ops/s", "p50", "p90", "p99", "p99.9", "max", "errors");
+    }
+
+    private static String row(Operation operation, Histogram response, Histogram service,
+                              double throughput, long errorCount) {
+        return String.format("%-11s %9d %9.1f %17s %17s %17s %17s %17s %7s",
+            operation, response.getTotalCount(), throughput,
+            pair(response.getValueAtPercentile(50), service.getValueAtPercentile(50)),
+            pair(response.getValueAtPercentile(90), service.getValueAtPercentile(90)),
+            pair(response.getValueAtPercentile(99), service.getValueAtPercentile(99)),
+            pair(response.getValueAtPercentile(99.9), service.getValueAtPercentile(99.9)),
+            pair(response.getMaxValue(), service.getMaxValue()),
+            errorCount >= 0 ? String.valueOf(errorCount) : "");
+    }
+
+    private static String pair(long responseNanos, long serviceNanos) {
+        return String.format("%.2f/%.2f", responseNanos / 1e6, serviceNanos / 1e6);
+    }
+
+    private static long clamp(long nanos) {
+        return Math.max(0, Math.min(nanos, HIGHEST_TRACKABLE_NANOS));
+    }
+}
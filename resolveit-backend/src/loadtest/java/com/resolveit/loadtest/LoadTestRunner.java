@@ -0,0 +1,153 @@
+package com.resolveit.loadtest;
+
+import com.resolveit.ResolveItApplication;
+import com.resolveit.service.ComplaintService;
+import com.resolveit.service.UserService;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import javax.sql.DataSource;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Entry point of the load test harness.
+ *
+ * <pre>
+ * mvn -Ploadtest compile exec:java -Dexec.args="--loadtest.rate=300 --loadtest.duration=PT10M"
+ * mvn -Ploadtest compile exec:java -Dexec.args="--loadtest.mode=http --loadtest.http.username=... --loadtest.http.password=..."
+ * mvn -Ploadtest compile exec:java -Dexec.args="--loadtest.soak=true --loadtest.duration=PT8H --loadtest.report-interval=PT1M"
+ * </pre>
+ *
+ * Workers run an open-loop schedule: each thread owns an equal share of the
+ * target rate and computes when every operation should have started. Latency
+ * is measured from that intended start, so a stall delays the schedule and is
+ * charged to every operation that should have run during it.
+ * <p>
+ * In-process runs replace the mail sender with {@link NoOpMailSender}, so
+ * status changes on existing data never email real users. Soak mode is
+ * in-process only: over HTTP the server's heap and pool are out of reach.
+ */
+public class LoadTestRunner {
+
+    private static final PrintStream OUT = System.out;
+
+    public static void main(String[] args) throws Exception {
+        WorkloadConfig config = WorkloadConfig.fromArgs(args);
+        ConfigurableApplicationContext context = null;
+        NoOpMailSender mailSender = null;
+        WorkloadDriver driver;
+        SoakMonitor monitor;
+        if (config.isHttp()) {
+            driver = new HttpDriver(config);
+            monitor = null;
+        } else {
+            SpringApplication application = new SpringApplication(ResolveItApplication.class);
+            application.setWebApplicationType(WebApplicationType.NONE);
+            // Registered before refresh so mail auto-configuration backs off and no email leaves the harness
+            mailSender = new NoOpMailSender();
+            NoOpMailSender harnessMailSender = mailSender;
+            application.addInitializers(ctx -> ctx.getBeanFactory().registerSingleton("mailSender", harnessMailSender));
+            context = application.run(args);
+            driver = new InProcessDriver(config, context.getBean(ComplaintService.class), context.getBean(UserService.class));
+            DataSource dataSource = context.getBean(DataSource.class);
+            monitor = new SoakMonitor(dataSource instanceof HikariDataSource hikari ? hikari.getHikariPoolMXBean() : null);
+        }
+
+        try {
+            OUT.println("-- preparing workload (" + config.getMode() + ")");
+            driver.prepare();
+            run(config, driver, monitor);
+            if (mailSender != null) {
+                OUT.println("-- notification emails discarded: " + mailSender.getDiscarded());
+            }
+        } finally {
+            if (context != null) {
+                SpringApplication.exit(context);
+            }
+        }
+    }
+
+    private static void run(WorkloadConfig config, WorkloadDriver driver, SoakMonitor monitor) throws InterruptedException {
+        LatencyRecorder recorder = new LatencyRecorder();
+        Operation[] operations = weightedOperations(config.getMix());
+        long intervalNanos = (long) (config.getThreads() * 1e9 / config.getRatePerSecond());
+        long startNanos = System.nanoTime();
+        long measureFromNanos = startNanos + config.getWarmup().toNanos();
+        long endNanos = measureFromNanos + config.getDuration().toNanos();
+
+        List<Thread> workers = new ArrayList<>(config.getThreads());
+        for (int t = 0; t < config.getThreads(); t++) {
+            // Stagger threads so their schedules interleave evenly
+            long firstStart = startNanos + intervalNanos * t / config.getThreads();
+            Thread worker = new Thread(() -> work(driver, recorder, operations, firstStart, intervalNanos, endNanos),
+                "loadtest-worker-" + t);
+            worker.start();
+            workers.add(worker);
+        }
+
+        ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor();
+        long reportMillis = config.getReportInterval().toMillis();
+        reporter.schedule(() -> {
+            OUT.println("-- warmup finished, measuring");
+            recorder.reset();
+        }, config.getWarmup().toMillis(), TimeUnit.MILLISECONDS);
+        reporter.scheduleAtFixedRate(() -> {
+            if (System.nanoTime() >= measureFromNanos) {
+                recorder.printInterval(OUT, reportMillis / 1000.0);
+                if (config.isSoak()) {
+                    monitor.sample(OUT);
+                }
+            }
+        }, config.getWarmup().toMillis() + reportMillis, reportMillis, TimeUnit.MILLISECONDS);
+
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        reporter.shutdownNow();
+        reporter.awaitTermination(5, TimeUnit.SECONDS);
+
+        recorder.printInterval(OUT, reportMillis / 1000.0);
+        recorder.printSummary(OUT, (System.nanoTime() - measureFromNanos) / 1e9);
+        if (monitor != null) {
+            monitor.sample(OUT);
+            monitor.printSummary(OUT);
+        }
+    }
+
+    private static void work(WorkloadDriver driver, LatencyRecorder recorder, Operation[] operations,
+                             long firstStartNanos, long intervalNanos, long endNanos) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (long intended = firstStartNanos; intended < endNanos; intended += intervalNanos) {
+            long now;
+            while ((now = System.nanoTime()) < intended) {
+                LockSupport.parkNanos(intended - now);
+            }
+            Operation operation = operations[random.nextInt(operations.length)];
+            try {
+                driver.execute(operation);
+                recorder.record(operation, intended, now, System.nanoTime());
+            } catch (Exception e) {
+                recorder.recordError(operation);
+            }
+        }
+    }
+
+    private static Operation[] weightedOperations(Map<Operation, Integer> mix) {
+        List<Operation> operations = new ArrayList<>();
+        mix.forEach((operation, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                operations.add(operation);
+            }
+        });
+        return operations.toArray(new Operation[0]);
+    }
+}
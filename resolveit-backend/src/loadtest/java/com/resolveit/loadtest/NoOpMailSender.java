@@ -0,0 +1,24 @@
+package com.resolveit.loadtest;
+
+import jakarta.mail.internet.MimeMessage;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Mail sender for the in-process harness. Messages are built as usual, so
+ * the notification path costs what it does in production, but nothing is
+ * handed to an SMTP server.
+ */
+public class NoOpMailSender extends JavaMailSenderImpl {
+
+    private final AtomicLong discarded = new AtomicLong();
+
+    @Override
+    protected void doSend(MimeMessage[] mimeMessages, Object[] originalMessages) {
+        discarded.addAndGet(mimeMessages.length);
+    }
+
+    public long getDiscarded() {
+        return discarded.get();
+    }
+}
@@ -0,0 +1,23 @@
+package com.resolveit.loadtest;
+
+/**
+ * Operations in the synthetic workload. Reads marked httpSupported are the
+ * ones exposed over HTTP and can be driven against a remote instance.
+ */
+public enum Operation {
+    SUBMIT(false),
+    TRANSITION(false),
+    ASSIGN(false),
+    NOTE(false),
+    SEARCH(false),
+    DASHBOARD(true),
+    HISTORY(true);
+
+    private final boolean httpSupported;
+
+    Operation(boolean httpSupported) {
+        this.httpSupported = httpSupported;
+    }
+
+    public boolean isHttpSupported() { return httpSupported; }
+}
@@ -0,0 +1,89 @@
+package com.resolveit.loadtest;
+
+import com.zaxxer.hikari.HikariPoolMXBean;
+import java.io.PrintStream;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+
+/**
+ * Samples JVM heap, GC and connection pool state during long runs. Heap
+ * occupancy after the last collection is tracked rather than current usage,
+ * since it only grows when objects survive GC, which makes a leak show up as
+ * a steady positive trend.
+ */
+public class SoakMonitor {
+
+    private final HikariPoolMXBean pool;
+    private final long startedAtNanos = System.nanoTime();
+
+    private long firstRetainedBytes = -1;
+    private long lastRetainedBytes;
+    private long maxRetainedBytes;
+    private int maxActiveConnections;
+    private int maxWaitingThreads;
+
+    /**
+     * @param pool connection pool to observe, or null when it is not a Hikari pool
+     */
+    public SoakMonitor(HikariPoolMXBean pool) {
+        this.pool = pool;
+    }
+
+    public synchronized void sample(PrintStream out) {
+        long retained = retainedHeapBytes();
+        if (firstRetainedBytes < 0) {
+            firstRetainedBytes = retained;
+        }
+        lastRetainedBytes = retained;
+        maxRetainedBytes = Math.max(maxRetainedBytes, retained);
+
+        long gcCount = 0;
+        long gcMillis = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            gcCount += Math.max(gc.getCollectionCount(), 0);
+            gcMillis += Math.max(gc.getCollectionTime(), 0);
+        }
+        MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+
+        StringBuilder line = new StringBuilder(String.format(
+            "-- soak: heap used %d MB, committed %d MB, retained after GC %d MB, gc %d (%d ms), threads %d",
+            heap.getUsed() >> 20, heap.getCommitted() >> 20, retained >> 20, gcCount, gcMillis,
+            ManagementFactory.getThreadMXBean().getThreadCount()));
+        if (pool != null) {
+            maxActiveConnections = Math.max(maxActiveConnections, pool.getActiveConnections());
+            maxWaitingThreads = Math.max(maxWaitingThreads, pool.getThreadsAwaitingConnection());
+            line.append(String.format(", pool active %d idle %d total %d waiting %d",
+                pool.getActiveConnections(), pool.getIdleConnections(),
+                pool.getTotalConnections(), pool.getThreadsAwaitingConnection()));
+        }
+        out.println(line);
+    }
+
+    public synchronized void printSummary(PrintStream out) {
+        if (firstRetainedBytes < 0) {
+            return;
+        }
+        double hours = (System.nanoTime() - startedAtNanos) / 3.6e12;
+        double growthPerHour = hours > 0 ? (lastRetainedBytes - firstRetainedBytes) / hours : 0;
+        out.printf("-- soak summary: retained heap %d MB -> %d MB (max %d MB, %.1f MB/h)",
+            firstRetainedBytes >> 20, lastRetainedBytes >> 20, maxRetainedBytes >> 20, growthPerHour / (1 << 20));
+        if (pool != null) {
+            out.printf(", max active connections %d, max waiting threads %d", maxActiveConnections, maxWaitingThreads);
+        }
+        out.println();
+    }
+
+    private static long retainedHeapBytes() {
+        long retained = 0;
+        for (MemoryPoolMXBean memoryPool : ManagementFactory.getMemoryPoolMXBeans()) {
+            MemoryUsage afterGc = memoryPool.getCollectionUsage();
+            if (memoryPool.getType() == MemoryType.HEAP && afterGc != null) {
+                retained += afterGc.getUsed();
+            }
+        }
+        return retained;
+    }
+}
@@ -0,0 +1,105 @@
+package com.resolveit.loadtest;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Load test settings, read from --loadtest.* command line arguments.
+ */
+public class WorkloadConfig {
+    private String mode = "in-process";
+    private String baseUrl = "http://localhost:8080";
+    private String httpUsername = "";
+    private String httpPassword = "";
+    private String httpAccept = "application/json";
+    private int users = 200;
+    private int moderators = 10;
+    private int complaints = 2000;
+    private double zipfExponent = 1.1;
+    private int threads = 16;
+    private double ratePerSecond = 200;
+    private Duration warmup = Duration.ofSeconds(30);
+    private Duration duration = Duration.ofMinutes(5);
+    private Duration reportInterval = Duration.ofSeconds(10);
+    private boolean soak = false;
+    private boolean seed = true;
+    private final Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+
+    public WorkloadConfig() {
+        mix.put(Operation.SUBMIT, 10);
+        mix.put(Operation.TRANSITION, 10);
+        mix.put(Operation.ASSIGN, 5);
+        mix.put(Operation.NOTE, 10);
+        mix.put(Operation.SEARCH, 15);
+        mix.put(Operation.DASHBOARD, 30);
+        mix.put(Operation.HISTORY, 20);
+    }
+
+    public static WorkloadConfig fromArgs(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--loadtest.") && arg.contains("=")) {
+                int split = arg.indexOf('=');
+                values.put(arg.substring("--loadtest.".length(), split), arg.substring(split + 1));
+            }
+        }
+        WorkloadConfig config = new WorkloadConfig();
+        config.mode = values.getOrDefault("mode", config.mode);
+        config.baseUrl = values.getOrDefault("base-url", config.baseUrl);
+        config.httpUsername = values.getOrDefault("http.username", config.httpUsername);
+        config.httpPassword = values.getOrDefault("http.password", config.httpPassword);
+        config.httpAccept = values.getOrDefault("http.accept", config.httpAccept);
+        config.users = Integer.parseInt(values.getOrDefault("users", String.valueOf(config.users)));
+        config.moderators = Integer.parseInt(values.getOrDefault("moderators", String.valueOf(config.moderators)));
+        config.complaints = Integer.parseInt(values.getOrDefault("complaints", String.valueOf(config.complaints)));
+        config.zipfExponent = Double.parseDouble(values.getOrDefault("zipf-exponent", String.valueOf(config.zipfExponent)));
+        config.threads = Integer.parseInt(values.getOrDefault("threads", String.valueOf(config.threads)));
+        config.ratePerSecond = Double.parseDouble(values.getOrDefault("rate", String.valueOf(config.ratePerSecond)));
+        config.warmup = Duration.parse(values.getOrDefault("warmup", config.warmup.toString()));
+        config.duration = Duration.parse(values.getOrDefault("duration", config.duration.toString()));
+        config.reportInterval = Duration.parse(values.getOrDefault("report-interval", config.reportInterval.toString()));
+        config.soak = Boolean.parseBoolean(values.getOrDefault("soak", String.valueOf(config.soak)));
+        config.seed = Boolean.parseBoolean(values.getOrDefault("seed", String.valueOf(config.seed)));
+        for (Operation operation : Operation.values()) {
+            String weight = values.get("mix." + operation.name().toLowerCase());
+            if (weight != null) {
+                config.mix.put(operation, Integer.parseInt(weight));
+            }
+        }
+        if (config.isHttp() && config.httpUsername.isEmpty()) {
+            throw new IllegalArgumentException("HTTP mode needs --loadtest.http.username and --loadtest.http.password of a stored user");
+        }
+        if (config.isHttp() && config.soak) {
+            // The soak monitor samples the JVM it runs in, which over HTTP is the load generator
+            throw new IllegalArgumentException("Soak mode is only supported in-process; monitor the server directly for HTTP runs");
+        }
+        if (config.isHttp()) {
+            config.mix.replaceAll((operation, weight) -> operation.isHttpSupported() ? weight : 0);
+        }
+        if (config.mix.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("Operation mix has no positive weights");
+        }
+        return config;
+    }
+
+    public boolean isHttp() { return "http".equalsIgnoreCase(mode); }
+    public String getMode() { return mode; }
+    public String getBaseUrl() { return baseUrl; }
+    public String getHttpUsername() { return httpUsername; }
+    public String getHttpPassword() { return httpPassword; }
+    public String getHttpAccept() { return httpAccept; }
+    public int getUsers() { return users; }
+    public int getModerators() { return moderators; }
+    public int getComplaints() { return complaints; }
+    public double getZipfExponent() { return zipfExponent; }
+    public int getThreads() { return threads; }
+    public double getRatePerSecond() { return ratePerSecond; }
+    public Duration getWarmup() { return warmup; }
+    public Duration getDuration() { return duration; }
+    public Duration getReportInterval() { return reportInterval; }
+    public boolean isSoak() { return soak; }
+    public boolean isSeed() { return seed; }
+    public Map<Operation, Integer> getMix() { return mix; }
+}
@@ -0,0 +1,12 @@
+package com.resolveit.loadtest;
+
+/**
+ * Executes workload operations against the system under test. Implementations
+ * must be thread-safe; every worker thread shares one driver.
+ */
+public interface WorkloadDriver {
+
+    void prepare() throws Exception;
+
+    void execute(Operation operation) throws Exception;
+}
@@ -0,0 +1,35 @@
+package com.resolveit.config;
+
+import com.resolveit.service.UserService;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+@Configuration
+public class SecurityConfig {
+    
+    @Bean
+    public PasswordEncoder passwordEncoder() {
+        return new BCryptPasswordEncoder();
+    }
+    
+    /**
+     * Authenticates against the users table, granting ROLE_USER, ROLE_MODERATOR
+     * or ROLE_ADMIN from the stored role. Lookups go through the users cache,
+     * which is evicted on every update and password change.
+     */
+    @Bean
+    public UserDetailsService userDetailsService(UserService userService) {
+        return username -> userService.findByUsername(username)
+            .map(user -> User.withUsername(user.getUsername())
+                .password(user.getPassword())
+                .roles(user.getRole().name())
+                .disabled(!user.isEnabled())
+                .build())
+            .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
+    }
+}
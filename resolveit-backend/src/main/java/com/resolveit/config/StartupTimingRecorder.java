@@ -0,0 +1,63 @@
+package com.resolveit.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Records JVM uptime at application ready and at the first served request,
+ * tagged with the startup mode, so packaging modes can be compared. Opt in
+ * with startup.timing.enabled (on in the faststart profile).
+ */
+@Component
+@ConditionalOnProperty(name = "startup.timing.enabled", havingValue = "true")
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class StartupTimingRecorder extends OncePerRequestFilter implements ApplicationListener<ApplicationReadyEvent> {
+    
+    private static final Logger log = LoggerFactory.getLogger(StartupTimingRecorder.class);
+    
+    private final AtomicBoolean firstRequestSeen = new AtomicBoolean();
+    
+    private String mode = "unknown";
+    
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        mode = describeMode(event.getApplicationContext().getEnvironment());
+        log.info("Startup [{}] ready after {} ms", mode, uptimeMillis());
+    }
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (firstRequestSeen.compareAndSet(false, true)) {
+            log.info("Startup [{}] first request after {} ms", mode, uptimeMillis());
+        }
+        chain.doFilter(request, response);
+    }
+    
+    private static long uptimeMillis() {
+        return ManagementFactory.getRuntimeMXBean().getUptime();
+    }
+    
+    private static String describeMode(Environment environment) {
+        boolean aot = Boolean.getBoolean("spring.aot.enabled");
+        boolean cds = ManagementFactory.getRuntimeMXBean().getInputArguments().stream()
+            .anyMatch(arg -> arg.startsWith("-XX:SharedArchiveFile"));
+        return "profiles=" + Arrays.toString(environment.getActiveProfiles()) + " aot=" + aot + " cds=" + cds;
+    }
+}
@@ -0,0 +1,69 @@
+package com.resolveit.controller;
+
+import com.resolveit.dto.ComplaintSummary;
+import com.resolveit.dto.NoteEntry;
+import com.resolveit.dto.PageResponse;
+import com.resolveit.dto.StatusHistoryEntry;
+import com.resolveit.model.Complaint;
+import com.resolveit.service.ComplaintService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import java.util.List;
+
+/**
+ * Read-only complaint feeds for upstream integrations. Responses are DTOs
+ * projected straight from the database and are served as JSON or CBOR
+ * depending on the Accept header; both are gzip-compressed when large.
+ * Non-public notes are only served to moderators and admins.
+ */
+@RestController
+@RequestMapping(value = "/api/feed/complaints",
+                produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+public class ComplaintFeedController {
+    
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final List<String> STAFF_ROLES = List.of("ROLE_ADMIN", "ROLE_MODERATOR");
+    
+    @Autowired
+    private ComplaintService complaintService;
+    
+    @GetMapping
+    public PageResponse<ComplaintSummary> listComplaints(@RequestParam(required = false) Complaint.Status status,
+                                                         @RequestParam(defaultValue = "0") int page,
+                                                         @RequestParam(defaultValue = "100") int size) {
+        PageRequest pageable = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_PAGE_SIZE),
+            Sort.by(Sort.Direction.DESC, "createdAt"));
+        return new PageResponse<>(complaintService.getComplaintSummaries(status, pageable));
+    }
+    
+    @GetMapping("/{id}/history")
+    public List<StatusHistoryEntry> getHistory(@PathVariable Long id) {
+        return complaintService.getComplaintHistoryEntries(id);
+    }
+    
+    @GetMapping("/{id}/notes")
+    public List<NoteEntry> getNotes(@PathVariable Long id,
+                                    @RequestParam(defaultValue = "true") boolean publicOnly,
+                                    Authentication authentication) {
+        if (!publicOnly && !isStaff(authentication)) {
+            throw new AccessDeniedException("Internal notes are restricted to moderators and admins");
+        }
+        return complaintService.getComplaintNoteEntries(id, publicOnly);
+    }
+    
+    private static boolean isStaff(Authentication authentication) {
+        return authentication != null && authentication.getAuthorities().stream()
+            .map(GrantedAuthority::getAuthority)
+            .anyMatch(STAFF_ROLES::contains);
+    }
+}
@@ -0,0 +1,50 @@
+package com.resolveit.dto;
+
+import com.resolveit.model.Complaint;
+import java.time.LocalDateTime;
+
+/**
+ * Flat complaint row for listing feeds. Associations are reduced to their
+ * ids so serialization never triggers lazy loading.
+ */
+public class ComplaintSummary {
+    private final Long id;
+    private final String title;
+    private final Complaint.Category category;
+    private final Complaint.Priority priority;
+    private final Complaint.Status status;
+    private final Long userId;
+    private final Long assignedToId;
+    private final boolean anonymous;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+    private final LocalDateTime resolvedAt;
+
+    public ComplaintSummary(Long id, String title, Complaint.Category category, Complaint.Priority priority,
+                            Complaint.Status status, Long userId, Long assignedToId, boolean anonymous,
+                            LocalDateTime createdAt, LocalDateTime updatedAt, LocalDateTime resolvedAt) {
+        this.id = id;
+        this.title = title;
+        this.category = category;
+        this.priority = priority;
+        this.status = status;
+        this.userId = userId;
+        this.assignedToId = assignedToId;
+        this.anonymous = anonymous;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.resolvedAt = resolvedAt;
+    }
+
+    public Long getId() { return id; }
+    public String getTitle() { return title; }
+    public Complaint.Category getCategory() { return category; }
+    public Complaint.Priority getPriority() { return priority; }
+    public Complaint.Status getStatus() { return status; }
+    public Long getUserId() { return userId; }
+    public Long getAssignedToId() { return assignedToId; }
+    public boolean isAnonymous() { return anonymous; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public LocalDateTime getResolvedAt() { return resolvedAt; }
+}
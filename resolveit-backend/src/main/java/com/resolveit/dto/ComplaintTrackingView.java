@@ -0,0 +1,46 @@
+package com.resolveit.dto;
+
+import com.resolveit.model.Complaint;
+import java.time.LocalDateTime;
+
+/**
+ * Read-only view of a complaint for public tracking-code lookups. Built
+ * directly by a JPQL constructor expression, so no entity or association is
+ * ever loaded, and immutable so it can be shared from the cache.
+ */
+public class ComplaintTrackingView {
+    private final String trackingCode;
+    private final String title;
+    private final Complaint.Category category;
+    private final Complaint.Priority priority;
+    private final Complaint.Status status;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+    private final LocalDateTime resolvedAt;
+    private final String resolution;
+
+    public ComplaintTrackingView(String trackingCode, String title, Complaint.Category category,
+                                 Complaint.Priority priority, Complaint.Status status,
+                                 LocalDateTime createdAt, LocalDateTime updatedAt,
+                                 LocalDateTime resolvedAt, String resolution) {
+        this.trackingCode = trackingCode;
+        this.title = title;
+        this.category = category;
+        this.priority = priority;
+        this.status = status;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.resolvedAt = resolvedAt;
+        this.resolution = resolution;
+    }
+
+    public String getTrackingCode() { return trackingCode; }
+    public String getTitle() { return title; }
+    public Complaint.Category getCategory() { return category; }
+    public Complaint.Priority getPriority() { return priority; }
+    public Complaint.Status getStatus() { return status; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public LocalDateTime getResolvedAt() { return resolvedAt; }
+    public String getResolution() { return resolution; }
+}
@@ -0,0 +1,27 @@
+package com.resolveit.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.time.LocalDateTime;
+
+public class NoteEntry {
+    private final Long id;
+    private final String note;
+    private final Long createdById;
+    private final LocalDateTime createdAt;
+    private final boolean isPublic;
+
+    public NoteEntry(Long id, String note, Long createdById, LocalDateTime createdAt, boolean isPublic) {
+        this.id = id;
+        this.note = note;
+        this.createdById = createdById;
+        this.createdAt = createdAt;
+        this.isPublic = isPublic;
+    }
+
+    public Long getId() { return id; }
+    public String getNote() { return note; }
+    public Long getCreatedById() { return createdById; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    @JsonProperty("isPublic")
+    public boolean isPublic() { return isPublic; }
+}
@@ -0,0 +1,27 @@
+package com.resolveit.dto;
+
+import org.springframework.data.domain.Page;
+import java.util.List;
+
+/**
+ * Minimal page envelope; serializing Spring's Page directly adds pageable
+ * and sort metadata that integrations do not use.
+ */
+public class PageResponse<T> {
+    private final List<T> content;
+    private final int page;
+    private final int size;
+    private final long totalElements;
+
+    public PageResponse(Page<T> page) {
+        this.content = page.getContent();
+        this.page = page.getNumber();
+        this.size = page.getSize();
+        this.totalElements = page.getTotalElements();
+    }
+
+    public List<T> getContent() { return content; }
+    public int getPage() { return page; }
+    public int getSize() { return size; }
+    public long getTotalElements() { return totalElements; }
+}
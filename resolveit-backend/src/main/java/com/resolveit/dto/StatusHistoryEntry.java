@@ -0,0 +1,30 @@
+package com.resolveit.dto;
+
+import com.resolveit.model.Complaint;
+import java.time.LocalDateTime;
+
+public class StatusHistoryEntry {
+    private final Long id;
+    private final Complaint.Status status;
+    private final Long changedById;
+    private final String changedByName;
+    private final LocalDateTime timestamp;
+    private final String notes;
+
+    public StatusHistoryEntry(Long id, Complaint.Status status, Long changedById, String changedByFirstName,
+                              String changedByLastName, LocalDateTime timestamp, String notes) {
+        this.id = id;
+        this.status = status;
+        this.changedById = changedById;
+        this.changedByName = changedById != null ? changedByFirstName + " " + changedByLastName : null;
+        this.timestamp = timestamp;
+        this.notes = notes;
+    }
+
+    public Long getId() { return id; }
+    public Complaint.Status getStatus() { return status; }
+    public Long getChangedById() { return changedById; }
+    public String getChangedByName() { return changedByName; }
+    public LocalDateTime getTimestamp() { return timestamp; }
+    public String getNotes() { return notes; }
+}
@@ -0,0 +1,15 @@
+package com.resolveit.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Thrown when a client exceeds a request quota; mapped to 429 Too Many Requests.
+ */
+@ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+public class RateLimitExceededException extends RuntimeException {
+    
+    public RateLimitExceededException(String message) {
+        super(message);
+    }
+}
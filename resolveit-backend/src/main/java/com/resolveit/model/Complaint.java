@@ -1,6 +1,7 @@
 package com.resolveit.model;
 
 import jakarta.persistence.*;
+import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import java.time.LocalDateTime;
@@ -8,7 +9,16 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "complaints")
+@Table(name = "complaints", indexes = {
+    @Index(name = "idx_complaints_user_created", columnList = "user_id, created_at"),
+    @Index(name = "idx_complaints_assigned_created", columnList = "assigned_to, created_at"),
+    @Index(name = "idx_complaints_status_created", columnList = "status, created_at"),
+    @Index(name = "idx_complaints_category_created", columnList = "category, created_at"),
+    @Index(name = "idx_complaints_priority_created", columnList = "priority, created_at"),
+    @Index(name = "idx_complaints_created", columnList = "created_at")
+}, uniqueConstraints = {
+    @UniqueConstraint(name = "uk_complaints_tracking_code", columnNames = "tracking_code")
+})
 public class Complaint {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -39,6 +49,21 @@ public class Complaint {
     @JoinColumn(name = "assigned_to")
     private User assignedTo;
 
+    @Column(name = "tracking_code", length = 24, updatable = false)
+    private String trackingCode;
+
+    @Column(name = "is_anonymous")
+    private boolean anonymous = false;
+
+    @Email
+    @Size(max = 100)
+    @Column(name = "anonymous_email")
+    private String anonymousEmail;
+
+    @Size(max = 15)
+    @Column(name = "anonymous_phone")
+    private String anonymousPhone;
+
     @Column(name = "created_at")
     private LocalDateTime createdAt = LocalDateTime.now();
 
@@ -92,6 +117,18 @@ public class Complaint {
     public User getAssignedTo() { return assignedTo; }
     public void setAssignedTo(User assignedTo) { this.assignedTo = assignedTo; }
 
+    public String getTrackingCode() { return trackingCode; }
+    public void setTrackingCode(String trackingCode) { this.trackingCode = trackingCode; }
+
+    public boolean isAnonymous() { return anonymous; }
+    public void setAnonymous(boolean anonymous) { this.anonymous = anonymous; }
+
+    public String getAnonymousEmail() { return anonymousEmail; }
+    public void setAnonymousEmail(String anonymousEmail) { this.anonymousEmail = anonymousEmail; }
+
+    public String getAnonymousPhone() { return anonymousPhone; }
+    public void setAnonymousPhone(String anonymousPhone) { this.anonymousPhone = anonymousPhone; }
+
     public LocalDateTime getCreatedAt() { return createdAt; }
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
 
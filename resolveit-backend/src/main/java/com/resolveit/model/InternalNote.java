@@ -6,7 +6,10 @@ import jakarta.validation.constraints.Size;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "internal_notes")
+@Table(name = "internal_notes", indexes = {
+    @Index(name = "idx_internal_notes_complaint_created", columnList = "complaint_id, created_at"),
+    @Index(name = "idx_internal_notes_complaint_public_created", columnList = "complaint_id, is_public, created_at")
+})
 public class InternalNote {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
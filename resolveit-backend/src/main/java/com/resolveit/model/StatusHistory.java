@@ -4,7 +4,9 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "status_history")
+@Table(name = "status_history", indexes = {
+    @Index(name = "idx_status_history_complaint_ts", columnList = "complaint_id, timestamp")
+})
 public class StatusHistory {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -9,7 +9,9 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+    @Index(name = "idx_users_role", columnList = "role")
+})
 public class User {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -52,6 +54,10 @@ public class User {
 
     private boolean enabled = true;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "notification_preference")
+    private NotificationPreference notificationPreference = NotificationPreference.DIGEST;
+
     // Constructors
     public User() {}
 
@@ -63,6 +69,22 @@ public class User {
         this.lastName = lastName;
     }
 
+    /** Detached copy with the same id and column values. */
+    public User(User other) {
+        this.id = other.id;
+        this.username = other.username;
+        this.email = other.email;
+        this.password = other.password;
+        this.firstName = other.firstName;
+        this.lastName = other.lastName;
+        this.phoneNumber = other.phoneNumber;
+        this.role = other.role;
+        this.createdAt = other.createdAt;
+        this.updatedAt = other.updatedAt;
+        this.enabled = other.enabled;
+        this.notificationPreference = other.notificationPreference;
+    }
+
     // Getters and Setters
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
@@ -97,7 +119,14 @@ public class User {
     public boolean isEnabled() { return enabled; }
     public void setEnabled(boolean enabled) { this.enabled = enabled; }
 
+    public NotificationPreference getNotificationPreference() { return notificationPreference; }
+    public void setNotificationPreference(NotificationPreference notificationPreference) { this.notificationPreference = notificationPreference; }
+
     public enum Role {
         USER, ADMIN, MODERATOR
     }
+
+    public enum NotificationPreference {
+        IMMEDIATE, DIGEST, NONE
+    }
 }
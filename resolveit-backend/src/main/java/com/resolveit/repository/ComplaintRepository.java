@@ -1,5 +1,7 @@
 package com.resolveit.repository;
 
+import com.resolveit.dto.ComplaintSummary;
+import com.resolveit.dto.ComplaintTrackingView;
 import com.resolveit.model.Complaint;
 import com.resolveit.model.User;
 import org.springframework.data.domain.Page;
@@ -10,6 +12,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ComplaintRepository extends JpaRepository<Complaint, Long> {
@@ -34,4 +37,23 @@ public interface ComplaintRepository extends JpaRepository<Complaint, Long> {
     
     @Query("SELECT c FROM Complaint c WHERE c.title LIKE %:keyword% OR c.description LIKE %:keyword%")
     Page<Complaint> searchByKeyword(@Param("keyword") String keyword, Pageable pageable);
+    
+    @Query("SELECT new com.resolveit.dto.ComplaintTrackingView(c.trackingCode, c.title, c.category, c.priority, " +
+           "c.status, c.createdAt, c.updatedAt, c.resolvedAt, c.resolution) " +
+           "FROM Complaint c WHERE c.trackingCode = :trackingCode")
+    Optional<ComplaintTrackingView> findTrackingViewByCode(@Param("trackingCode") String trackingCode);
+    
+    boolean existsByTrackingCode(String trackingCode);
+    
+    @Query(value = "SELECT new com.resolveit.dto.ComplaintSummary(c.id, c.title, c.category, c.priority, c.status, " +
+                   "u.id, a.id, c.anonymous, c.createdAt, c.updatedAt, c.resolvedAt) " +
+                   "FROM Complaint c LEFT JOIN c.user u LEFT JOIN c.assignedTo a",
+           countQuery = "SELECT COUNT(c) FROM Complaint c")
+    Page<ComplaintSummary> findAllSummaries(Pageable pageable);
+    
+    @Query(value = "SELECT new com.resolveit.dto.ComplaintSummary(c.id, c.title, c.category, c.priority, c.status, " +
+                   "u.id, a.id, c.anonymous, c.createdAt, c.updatedAt, c.resolvedAt) " +
+                   "FROM Complaint c LEFT JOIN c.user u LEFT JOIN c.assignedTo a WHERE c.status = :status",
+           countQuery = "SELECT COUNT(c) FROM Complaint c WHERE c.status = :status")
+    Page<ComplaintSummary> findSummariesByStatus(@Param("status") Complaint.Status status, Pageable pageable);
 }
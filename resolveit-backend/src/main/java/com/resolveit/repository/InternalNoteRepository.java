@@ -1,8 +1,11 @@
 package com.resolveit.repository;
 
+import com.resolveit.dto.NoteEntry;
 import com.resolveit.model.InternalNote;
 import com.resolveit.model.Complaint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 
@@ -11,4 +14,12 @@ public interface InternalNoteRepository extends JpaRepository<InternalNote, Long
     List<InternalNote> findByComplaintOrderByCreatedAtDesc(Complaint complaint);
     List<InternalNote> findByComplaintIdOrderByCreatedAtDesc(Long complaintId);
     List<InternalNote> findByComplaintAndIsPublicOrderByCreatedAtDesc(Complaint complaint, boolean isPublic);
+    
+    @Query("SELECT new com.resolveit.dto.NoteEntry(n.id, n.note, u.id, n.createdAt, n.isPublic) " +
+           "FROM InternalNote n LEFT JOIN n.createdBy u WHERE n.complaint.id = :complaintId ORDER BY n.createdAt DESC")
+    List<NoteEntry> findEntriesByComplaintId(@Param("complaintId") Long complaintId);
+    
+    @Query("SELECT new com.resolveit.dto.NoteEntry(n.id, n.note, u.id, n.createdAt, n.isPublic) " +
+           "FROM InternalNote n LEFT JOIN n.createdBy u WHERE n.complaint.id = :complaintId AND n.isPublic = true ORDER BY n.createdAt DESC")
+    List<NoteEntry> findPublicEntriesByComplaintId(@Param("complaintId") Long complaintId);
 }
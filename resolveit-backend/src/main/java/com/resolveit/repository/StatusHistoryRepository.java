@@ -1,8 +1,11 @@
 package com.resolveit.repository;
 
+import com.resolveit.dto.StatusHistoryEntry;
 import com.resolveit.model.StatusHistory;
 import com.resolveit.model.Complaint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 
@@ -10,4 +13,9 @@ import java.util.List;
 public interface StatusHistoryRepository extends JpaRepository<StatusHistory, Long> {
     List<StatusHistory> findByComplaintOrderByTimestampDesc(Complaint complaint);
     List<StatusHistory> findByComplaintIdOrderByTimestampDesc(Long complaintId);
+    
+    @Query("SELECT new com.resolveit.dto.StatusHistoryEntry(h.id, h.status, u.id, u.firstName, u.lastName, " +
+           "h.timestamp, h.notes) FROM StatusHistory h LEFT JOIN h.changedBy u " +
+           "WHERE h.complaint.id = :complaintId ORDER BY h.timestamp DESC")
+    List<StatusHistoryEntry> findEntriesByComplaintId(@Param("complaintId") Long complaintId);
 }
@@ -0,0 +1,170 @@
+package com.resolveit.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps node-local caches coherent across replicas. Every eviction is
+ * appended to the cache_invalidations change log, which all nodes poll and
+ * replay, and is applied locally once the writing transaction commits.
+ * Cache keys are exchanged as strings, so caches that take part must use
+ * String keys.
+ */
+@Service
+public class CacheInvalidationService {
+    
+    private static final int POLL_BATCH_SIZE = 500;
+    private static final int MAX_GAPS_PER_QUERY = 500;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    private CacheManager cacheManager;
+    
+    @Autowired
+    private ClusterLockService clusterLockService;
+    
+    @Value("${cluster.invalidation.gap-timeout-seconds:600}")
+    private int gapTimeoutSeconds;
+    
+    @Value("${cluster.invalidation.max-pending-gaps:10000}")
+    private int maxPendingGaps;
+    
+    @Value("${cluster.invalidation.retention-hours:1}")
+    private int retentionHours;
+    
+    private long lastSeenId = -1;
+    
+    // Ids skipped while polling, mapped to when the gap was first seen
+    private final Map<Long, Long> pendingGaps = new LinkedHashMap<>();
+    
+    /**
+     * Broadcasts an eviction and applies it on this node. Inside a transaction
+     * the change log entry commits with the data change and the local cache
+     * is only evicted after commit, so a concurrent reader cannot re-cache the
+     * old row in between.
+     */
+    public void evict(String cacheName, String key) {
+        jdbcTemplate.update(
+            "INSERT INTO cache_invalidations (cache_name, cache_key, origin_node) VALUES (?, ?, ?)",
+            cacheName, key, clusterLockService.getNodeId());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictLocally(cacheName, key);
+                }
+            });
+        } else {
+            evictLocally(cacheName, key);
+        }
+    }
+    
+    public void clear(String cacheName) {
+        evict(cacheName, null);
+    }
+    
+    /**
+     * Replays evictions from all nodes, including this one, since a reader
+     * may still have cached a stale row just before the local after-commit
+     * eviction. Auto-increment ids become visible out of order when
+     * transactions overlap, so ids skipped by a poll are remembered and
+     * fetched again until they appear or cluster.invalidation.gap-timeout-seconds
+     * passes, after which the id is assumed to belong to a rolled back
+     * transaction. Transactions that write invalidations must therefore
+     * commit within that timeout.
+     */
+    @Scheduled(fixedDelayString = "${cluster.invalidation.poll-interval-ms:1000}")
+    public synchronized void pollInvalidations() {
+        try {
+            if (lastSeenId < 0) {
+                // Local caches start empty; only entries that may still be
+                // in flight are relevant, so start one gap timeout back
+                Long startId = jdbcTemplate.queryForObject(
+                    "SELECT COALESCE(MAX(id), 0) FROM cache_invalidations WHERE created_at < TIMESTAMPADD(SECOND, ?, NOW(3))",
+                    Long.class, -gapTimeoutSeconds);
+                lastSeenId = startId != null ? startId : 0;
+            }
+            replayGaps();
+            List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                "SELECT id, cache_name, cache_key FROM cache_invalidations WHERE id > ? ORDER BY id LIMIT ?",
+                lastSeenId, POLL_BATCH_SIZE);
+            long now = System.currentTimeMillis();
+            for (Map<String, Object> row : rows) {
+                long id = ((Number) row.get("id")).longValue();
+                for (long missing = lastSeenId + 1; missing < id && pendingGaps.size() <= maxPendingGaps; missing++) {
+                    pendingGaps.put(missing, now);
+                }
+                lastSeenId = id;
+                apply(row);
+            }
+            if (pendingGaps.size() > maxPendingGaps) {
+                // Too many holes to track individually, start from a clean slate
+                System.err.println("Too many cache invalidation gaps, clearing all local caches");
+                pendingGaps.clear();
+                cacheManager.getCacheNames().forEach(name -> evictLocally(name, null));
+            }
+        } catch (Exception e) {
+            System.err.println("Failed to poll cache invalidations: " + e.getMessage());
+        }
+    }
+    
+    @Scheduled(fixedDelayString = "${cluster.invalidation.prune-interval-ms:600000}")
+    public void pruneInvalidations() {
+        clusterLockService.runIfLeader("cache-invalidation-prune", Duration.ofMinutes(15), () ->
+            jdbcTemplate.update(
+                "DELETE FROM cache_invalidations WHERE created_at < TIMESTAMPADD(HOUR, ?, NOW(3))",
+                -retentionHours));
+    }
+    
+    private void replayGaps() {
+        if (pendingGaps.isEmpty()) {
+            return;
+        }
+        long expiredBefore = System.currentTimeMillis() - gapTimeoutSeconds * 1000L;
+        pendingGaps.values().removeIf(seenAt -> seenAt < expiredBefore);
+
+        List<Long> ids = new ArrayList<>(pendingGaps.keySet());
+        for (int from = 0; from < ids.size(); from += MAX_GAPS_PER_QUERY) {
+            List<Long> chunk = ids.subList(from, Math.min(from + MAX_GAPS_PER_QUERY, ids.size()));
+            String placeholders = String.join(",", Collections.nCopies(chunk.size(), "?"));
+            List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                "SELECT id, cache_name, cache_key FROM cache_invalidations WHERE id IN (" + placeholders + ")",
+                chunk.toArray());
+            for (Map<String, Object> row : rows) {
+                pendingGaps.remove(((Number) row.get("id")).longValue());
+                apply(row);
+            }
+        }
+    }
+    
+    private void apply(Map<String, Object> row) {
+        evictLocally((String) row.get("cache_name"), (String) row.get("cache_key"));
+    }
+    
+    private void evictLocally(String cacheName, String key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            return;
+        }
+        if (key == null) {
+            cache.clear();
+        } else {
+            cache.evict(key);
+        }
+    }
+}
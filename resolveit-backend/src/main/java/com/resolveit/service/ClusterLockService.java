@@ -0,0 +1,92 @@
+package com.resolveit.service;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import java.net.InetAddress;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Distributed locks and leader election backed by the cluster_leases table.
+ * Expiry is evaluated with the database clock so replicas with skewed clocks
+ * still agree on who holds a lease.
+ */
+@Service
+public class ClusterLockService {
+    
+    // MySQL applies the assignments left to right: owner is taken over only if
+    // the old lease expired, then expires_at is renewed only if we now own it
+    private static final String ACQUIRE_SQL =
+        "INSERT INTO cluster_leases (name, owner, expires_at) " +
+        "VALUES (?, ?, TIMESTAMPADD(MICROSECOND, ?, NOW(3))) " +
+        "ON DUPLICATE KEY UPDATE " +
+        "owner = IF(expires_at < NOW(3) OR owner = VALUES(owner), VALUES(owner), owner), " +
+        "expires_at = IF(owner = VALUES(owner), VALUES(expires_at), expires_at)";
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Value("${cluster.node-id:}")
+    private String configuredNodeId;
+    
+    private String nodeId;
+    
+    @PostConstruct
+    public void init() {
+        nodeId = StringUtils.hasText(configuredNodeId) ? configuredNodeId : generateNodeId();
+    }
+    
+    public String getNodeId() {
+        return nodeId;
+    }
+    
+    /**
+     * Acquires or renews the named lease for this node. Returns false while
+     * another node holds an unexpired lease.
+     */
+    public boolean tryAcquire(String name, Duration ttl) {
+        try {
+            jdbcTemplate.update(ACQUIRE_SQL, name, getNodeId(), ttl.toMillis() * 1000);
+            List<String> owners = jdbcTemplate.queryForList(
+                "SELECT owner FROM cluster_leases WHERE name = ?", String.class, name);
+            return !owners.isEmpty() && getNodeId().equals(owners.get(0));
+        } catch (Exception e) {
+            System.err.println("Failed to acquire lease " + name + ": " + e.getMessage());
+            return false;
+        }
+    }
+    
+    public void release(String name) {
+        jdbcTemplate.update(
+            "UPDATE cluster_leases SET expires_at = TIMESTAMPADD(SECOND, -1, NOW(3)) WHERE name = ? AND owner = ?",
+            name, getNodeId());
+    }
+    
+    /**
+     * Runs a scheduled task on exactly one node. The lease is kept (and renewed
+     * on every tick) rather than released, so the same node stays leader and
+     * other nodes skip the job until it stops renewing.
+     */
+    public boolean runIfLeader(String name, Duration ttl, Runnable task) {
+        if (!tryAcquire(name, ttl)) {
+            return false;
+        }
+        task.run();
+        return true;
+    }
+    
+    private static String generateNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "node";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
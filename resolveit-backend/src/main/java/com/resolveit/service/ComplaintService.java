@@ -1,5 +1,11 @@
 package com.resolveit.service;
 
+import com.resolveit.config.CacheConfig;
+import com.resolveit.dto.ComplaintSummary;
+import com.resolveit.dto.ComplaintTrackingView;
+import com.resolveit.dto.NoteEntry;
+import com.resolveit.dto.StatusHistoryEntry;
+import com.resolveit.exception.RateLimitExceededException;
 import com.resolveit.model.Complaint;
 import com.resolveit.model.StatusHistory;
 import com.resolveit.model.InternalNote;
@@ -8,18 +14,30 @@ import com.resolveit.repository.ComplaintRepository;
 import com.resolveit.repository.StatusHistoryRepository;
 import com.resolveit.repository.InternalNoteRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import java.security.SecureRandom;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 
 @Service
 @Transactional
 public class ComplaintService {
     
+    // Crockford base32 without I, L, O, U; 16 symbols give 80 bits of entropy
+    private static final char[] TRACKING_ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final int TRACKING_CODE_LENGTH = 16;
+    private static final String TRACKING_CODE_PREFIX = "RI-";
+    
+    private final SecureRandom secureRandom = new SecureRandom();
+    
     @Autowired
     private ComplaintRepository complaintRepository;
     
@@ -32,6 +50,15 @@ public class ComplaintService {
     @Autowired
     private EmailService emailService;
     
+    @Autowired
+    private CacheManager cacheManager;
+    
+    @Autowired
+    private TrackingLookupRateLimiter trackingLookupRateLimiter;
+    
+    @Autowired
+    private CacheInvalidationService cacheInvalidationService;
+    
     public Complaint createComplaint(Complaint complaint) {
         complaint.setCreatedAt(LocalDateTime.now());
         complaint.setUpdatedAt(LocalDateTime.now());
@@ -54,6 +81,42 @@ public class ComplaintService {
         return savedComplaint;
     }
     
+    public Complaint createAnonymousComplaint(Complaint complaint, String email, String phone) {
+        complaint.setUser(null);
+        complaint.setAnonymous(true);
+        complaint.setAnonymousEmail(email);
+        complaint.setAnonymousPhone(phone);
+        complaint.setTrackingCode(generateTrackingCode());
+        return createComplaint(complaint);
+    }
+    
+    /**
+     * Resolves a public tracking code for the anonymous status page. Lookups
+     * are rate limited per client and served from a projection cache, so the
+     * complaint entity and its history are never loaded on this path. Runs
+     * without a transaction so cache hits and rejected requests never borrow
+     * a pooled connection; a miss runs in the repository's own read-only one.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Optional<ComplaintTrackingView> trackComplaint(String trackingCode, String clientKey) {
+        if (!trackingLookupRateLimiter.tryAcquire(clientKey)) {
+            throw new RateLimitExceededException("Too many tracking requests");
+        }
+        String code = normalizeTrackingCode(trackingCode);
+        if (code == null) {
+            return Optional.empty();
+        }
+        Cache cache = trackingCache();
+        ComplaintTrackingView cached = cache.get(code, ComplaintTrackingView.class);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        // Misses are not cached, enumeration attempts are bounded by the limiter
+        Optional<ComplaintTrackingView> view = complaintRepository.findTrackingViewByCode(code);
+        view.ifPresent(v -> cache.put(code, v));
+        return view;
+    }
+    
     public Optional<Complaint> findById(Long id) {
         return complaintRepository.findById(id);
     }
@@ -78,6 +141,27 @@ public class ComplaintService {
         return complaintRepository.searchByKeyword(keyword, pageable);
     }
     
+    @Transactional(readOnly = true)
+    public Page<ComplaintSummary> getComplaintSummaries(Complaint.Status status, Pageable pageable) {
+        if (status != null) {
+            return complaintRepository.findSummariesByStatus(status, pageable);
+        }
+        return complaintRepository.findAllSummaries(pageable);
+    }
+    
+    @Transactional(readOnly = true)
+    public List<StatusHistoryEntry> getComplaintHistoryEntries(Long complaintId) {
+        return statusHistoryRepository.findEntriesByComplaintId(complaintId);
+    }
+    
+    @Transactional(readOnly = true)
+    public List<NoteEntry> getComplaintNoteEntries(Long complaintId, boolean publicOnly) {
+        if (publicOnly) {
+            return internalNoteRepository.findPublicEntriesByComplaintId(complaintId);
+        }
+        return internalNoteRepository.findEntriesByComplaintId(complaintId);
+    }
+    
     public Complaint updateComplaintStatus(Long complaintId, Complaint.Status newStatus, User changedBy, String notes) {
         Optional<Complaint> complaintOpt = complaintRepository.findById(complaintId);
         if (complaintOpt.isPresent()) {
@@ -92,6 +176,7 @@ public class ComplaintService {
             }
             
             Complaint updatedComplaint = complaintRepository.save(complaint);
+            evictTracking(updatedComplaint);
             
             // Create status history entry
             StatusHistory statusHistory = new StatusHistory(updatedComplaint, newStatus, changedBy, notes);
@@ -117,6 +202,7 @@ public class ComplaintService {
             }
             
             Complaint updatedComplaint = complaintRepository.save(complaint);
+            evictTracking(updatedComplaint);
             
             // Create status history entry
             StatusHistory statusHistory = new StatusHistory(
@@ -167,6 +253,7 @@ public class ComplaintService {
     }
     
     public void deleteComplaint(Long id) {
+        complaintRepository.findById(id).ifPresent(this::evictTracking);
         complaintRepository.deleteById(id);
     }
     
@@ -186,4 +273,38 @@ public class ComplaintService {
     public List<Complaint> getComplaintsByDateRange(LocalDateTime startDate, LocalDateTime endDate) {
         return complaintRepository.findByCreatedAtBetween(startDate, endDate);
     }
+    
+    private String generateTrackingCode() {
+        String code;
+        do {
+            StringBuilder sb = new StringBuilder(TRACKING_CODE_PREFIX);
+            for (int i = 0; i < TRACKING_CODE_LENGTH; i++) {
+                sb.append(TRACKING_ALPHABET[secureRandom.nextInt(TRACKING_ALPHABET.length)]);
+            }
+            code = sb.toString();
+        } while (complaintRepository.existsByTrackingCode(code));
+        return code;
+    }
+    
+    private String normalizeTrackingCode(String trackingCode) {
+        if (trackingCode == null) {
+            return null;
+        }
+        String code = trackingCode.trim().toUpperCase(Locale.ROOT);
+        if (code.length() != TRACKING_CODE_PREFIX.length() + TRACKING_CODE_LENGTH
+                || !code.startsWith(TRACKING_CODE_PREFIX)) {
+            return null;
+        }
+        return code;
+    }
+    
+    private void evictTracking(Complaint complaint) {
+        if (complaint.getTrackingCode() != null) {
+            cacheInvalidationService.evict(CacheConfig.COMPLAINT_TRACKING, complaint.getTrackingCode());
+        }
+    }
+    
+    private Cache trackingCache() {
+        return cacheManager.getCache(CacheConfig.COMPLAINT_TRACKING);
+    }
 }
@@ -3,111 +3,87 @@ package com.resolveit.service;
 import com.resolveit.model.Complaint;
 import com.resolveit.model.User;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
+import java.util.HashMap;
+import java.util.Map;
 
 @Service
 public class EmailService {
     
     @Autowired
-    private JavaMailSender mailSender;
-    
-    @Value("${spring.mail.username}")
-    private String fromEmail;
+    private NotificationDigestService notificationDigestService;
     
     public void sendComplaintSubmissionEmail(Complaint complaint) {
-        try {
-            SimpleMailMessage message = new SimpleMailMessage();
-            message.setFrom(fromEmail);
-            message.setTo(complaint.getUser().getEmail());
-            message.setSubject("Complaint Submitted Successfully - #" + complaint.getId());
-            message.setText(
-                "Dear " + complaint.getUser().getFirstName() + ",\n\n" +
-                "Your complaint has been submitted successfully.\n\n" +
-                "Complaint ID: #" + complaint.getId() + "\n" +
-                "Title: " + complaint.getTitle() + "\n" +
-                "Status: " + complaint.getStatus() + "\n" +
-                "Priority: " + complaint.getPriority() + "\n\n" +
-                "You can track your complaint status using the complaint ID.\n\n" +
-                "Thank you for contacting us.\n\n" +
-                "Best regards,\n" +
-                "ResolveIt Support Team"
-            );
-            mailSender.send(message);
-        } catch (Exception e) {
-            System.err.println("Failed to send email: " + e.getMessage());
-        }
+        Map<String, String> values = complaintValues(complaint, recipientName(complaint));
+        values.put("status", String.valueOf(complaint.getStatus()));
+        values.put("priority", String.valueOf(complaint.getPriority()));
+        values.put("trackingCode", complaint.getTrackingCode() != null ? complaint.getTrackingCode() : "");
+        values.put("trackingLine", trackingLine(complaint));
+        notifyOwner(complaint, NotificationEvent.Type.SUBMITTED, values);
     }
     
     public void sendStatusUpdateEmail(Complaint complaint, Complaint.Status oldStatus, Complaint.Status newStatus) {
-        try {
-            SimpleMailMessage message = new SimpleMailMessage();
-            message.setFrom(fromEmail);
-            message.setTo(complaint.getUser().getEmail());
-            message.setSubject("Complaint Status Updated - #" + complaint.getId());
-            message.setText(
-                "Dear " + complaint.getUser().getFirstName() + ",\n\n" +
-                "Your complaint status has been updated.\n\n" +
-                "Complaint ID: #" + complaint.getId() + "\n" +
-                "Title: " + complaint.getTitle() + "\n" +
-                "Previous Status: " + oldStatus + "\n" +
-                "Current Status: " + newStatus + "\n\n" +
-                "You can view more details by logging into your account.\n\n" +
-                "Thank you for your patience.\n\n" +
-                "Best regards,\n" +
-                "ResolveIt Support Team"
-            );
-            mailSender.send(message);
-        } catch (Exception e) {
-            System.err.println("Failed to send email: " + e.getMessage());
-        }
+        Map<String, String> values = complaintValues(complaint, recipientName(complaint));
+        values.put("oldStatus", String.valueOf(oldStatus));
+        values.put("newStatus", String.valueOf(newStatus));
+        notifyOwner(complaint, NotificationEvent.Type.STATUS_CHANGED, values);
     }
     
     public void sendAssignmentEmail(Complaint complaint, User assignedTo) {
-        try {
-            SimpleMailMessage message = new SimpleMailMessage();
-            message.setFrom(fromEmail);
-            message.setTo(assignedTo.getEmail());
-            message.setSubject("New Complaint Assigned - #" + complaint.getId());
-            message.setText(
-                "Dear " + assignedTo.getFirstName() + ",\n\n" +
-                "A new complaint has been assigned to you.\n\n" +
-                "Complaint ID: #" + complaint.getId() + "\n" +
-                "Title: " + complaint.getTitle() + "\n" +
-                "Category: " + complaint.getCategory() + "\n" +
-                "Priority: " + complaint.getPriority() + "\n" +
-                "Submitted by: " + complaint.getUser().getFirstName() + " " + complaint.getUser().getLastName() + "\n\n" +
-                "Please log in to the admin panel to view and manage this complaint.\n\n" +
-                "Best regards,\n" +
-                "ResolveIt System"
-            );
-            mailSender.send(message);
-        } catch (Exception e) {
-            System.err.println("Failed to send email: " + e.getMessage());
-        }
+        Map<String, String> values = complaintValues(complaint, assignedTo.getFirstName());
+        values.put("category", String.valueOf(complaint.getCategory()));
+        values.put("priority", String.valueOf(complaint.getPriority()));
+        values.put("submittedBy", submitterName(complaint));
+        notificationDigestService.submit(
+            new NotificationEvent(NotificationEvent.Type.ASSIGNED, assignedTo.getEmail(),
+                assignedTo.getFirstName(), complaint.getId(), values),
+            assignedTo.getNotificationPreference());
     }
     
     public void sendPublicNoteEmail(Complaint complaint, String noteText) {
-        try {
-            SimpleMailMessage message = new SimpleMailMessage();
-            message.setFrom(fromEmail);
-            message.setTo(complaint.getUser().getEmail());
-            message.setSubject("Update on Your Complaint - #" + complaint.getId());
-            message.setText(
-                "Dear " + complaint.getUser().getFirstName() + ",\n\n" +
-                "There's an update on your complaint.\n\n" +
-                "Complaint ID: #" + complaint.getId() + "\n" +
-                "Title: " + complaint.getTitle() + "\n\n" +
-                "Update:\n" + noteText + "\n\n" +
-                "You can view more details by logging into your account.\n\n" +
-                "Best regards,\n" +
-                "ResolveIt Support Team"
-            );
-            mailSender.send(message);
-        } catch (Exception e) {
-            System.err.println("Failed to send email: " + e.getMessage());
+        Map<String, String> values = complaintValues(complaint, recipientName(complaint));
+        values.put("note", noteText);
+        notifyOwner(complaint, NotificationEvent.Type.PUBLIC_NOTE, values);
+    }
+    
+    private void notifyOwner(Complaint complaint, NotificationEvent.Type type, Map<String, String> values) {
+        User.NotificationPreference preference = complaint.isAnonymous()
+            ? User.NotificationPreference.DIGEST
+            : complaint.getUser().getNotificationPreference();
+        if (type == NotificationEvent.Type.SUBMITTED && preference == User.NotificationPreference.DIGEST) {
+            // The confirmation carries the tracking code, which anonymous
+            // submitters cannot look up anywhere else; later updates are
+            // still coalesced
+            preference = User.NotificationPreference.IMMEDIATE;
         }
+        notificationDigestService.submit(
+            new NotificationEvent(type, recipientEmail(complaint), recipientName(complaint), complaint.getId(), values),
+            preference);
+    }
+    
+    private Map<String, String> complaintValues(Complaint complaint, String name) {
+        Map<String, String> values = new HashMap<>();
+        values.put("name", name);
+        values.put("id", String.valueOf(complaint.getId()));
+        values.put("title", complaint.getTitle());
+        return values;
+    }
+    
+    private String recipientEmail(Complaint complaint) {
+        return complaint.isAnonymous() ? complaint.getAnonymousEmail() : complaint.getUser().getEmail();
+    }
+    
+    private String recipientName(Complaint complaint) {
+        return complaint.isAnonymous() ? "Customer" : complaint.getUser().getFirstName();
+    }
+    
+    private String submitterName(Complaint complaint) {
+        return complaint.isAnonymous()
+            ? "Anonymous User"
+            : complaint.getUser().getFirstName() + " " + complaint.getUser().getLastName();
+    }
+    
+    private String trackingLine(Complaint complaint) {
+        return complaint.getTrackingCode() != null ? "Tracking Code: " + complaint.getTrackingCode() + "\n\n" : "";
     }
 }
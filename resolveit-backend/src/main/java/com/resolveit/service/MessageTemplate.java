@@ -0,0 +1,57 @@
+package com.resolveit.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Text template with {placeholder} slots. The template is split into literal
+ * and placeholder segments once at compile time, so rendering is a single
+ * pass over precomputed segments with no parsing or intermediate strings.
+ */
+public final class MessageTemplate {
+    
+    private final String[] literals;
+    private final String[] placeholders;
+    private final int estimatedLength;
+    
+    private MessageTemplate(String[] literals, String[] placeholders, int estimatedLength) {
+        this.literals = literals;
+        this.placeholders = placeholders;
+        this.estimatedLength = estimatedLength;
+    }
+    
+    public static MessageTemplate compile(String template) {
+        List<String> literals = new ArrayList<>();
+        List<String> placeholders = new ArrayList<>();
+        int position = 0;
+        while (true) {
+            int open = template.indexOf('{', position);
+            int close = open < 0 ? -1 : template.indexOf('}', open);
+            if (close < 0) {
+                literals.add(template.substring(position));
+                break;
+            }
+            literals.add(template.substring(position, open));
+            placeholders.add(template.substring(open + 1, close));
+            position = close + 1;
+        }
+        return new MessageTemplate(literals.toArray(new String[0]), placeholders.toArray(new String[0]),
+            template.length() + placeholders.size() * 16);
+    }
+    
+    public String render(Map<String, ?> values) {
+        StringBuilder sb = new StringBuilder(estimatedLength);
+        renderTo(sb, values);
+        return sb.toString();
+    }
+    
+    public void renderTo(StringBuilder sb, Map<String, ?> values) {
+        for (int i = 0; i < placeholders.length; i++) {
+            sb.append(literals[i]);
+            Object value = values.get(placeholders[i]);
+            sb.append(value != null ? value : "");
+        }
+        sb.append(literals[literals.length - 1]);
+    }
+}
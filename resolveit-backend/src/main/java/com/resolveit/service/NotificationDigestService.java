@@ -0,0 +1,275 @@
+package com.resolveit.service;
+
+import com.resolveit.model.User;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Buffers notification events per recipient and sends them as one digest
+ * per time window. Consecutive status changes of a complaint collapse into
+ * a single "from -> to" line, so a burst of activity produces one email.
+ * Buffers are node-local and flushed on shutdown.
+ */
+@Service
+public class NotificationDigestService {
+    
+    private static final MessageTemplate SUBMITTED_SUBJECT =
+        MessageTemplate.compile("Complaint Submitted Successfully - #{id}");
+    private static final MessageTemplate SUBMITTED_BODY = MessageTemplate.compile(
+        "Dear {name},\n\n" +
+        "Your complaint has been submitted successfully.\n\n" +
+        "Complaint ID: #{id}\n" +
+        "Title: {title}\n" +
+        "Status: {status}\n" +
+        "Priority: {priority}\n\n" +
+        "{trackingLine}" +
+        "You can track your complaint status using the complaint ID.\n\n" +
+        "Thank you for contacting us.\n\n" +
+        "Best regards,\n" +
+        "ResolveIt Support Team");
+    
+    private static final MessageTemplate STATUS_SUBJECT =
+        MessageTemplate.compile("Complaint Status Updated - #{id}");
+    private static final MessageTemplate STATUS_BODY = MessageTemplate.compile(
+        "Dear {name},\n\n" +
+        "Your complaint status has been updated.\n\n" +
+        "Complaint ID: #{id}\n" +
+        "Title: {title}\n" +
+        "Previous Status: {oldStatus}\n" +
+        "Current Status: {newStatus}\n\n" +
+        "You can view more details by logging into your account.\n\n" +
+        "Thank you for your patience.\n\n" +
+        "Best regards,\n" +
+        "ResolveIt Support Team");
+    
+    private static final MessageTemplate ASSIGNED_SUBJECT =
+        MessageTemplate.compile("New Complaint Assigned - #{id}");
+    private static final MessageTemplate ASSIGNED_BODY = MessageTemplate.compile(
+        "Dear {name},\n\n" +
+        "A new complaint has been assigned to you.\n\n" +
+        "Complaint ID: #{id}\n" +
+        "Title: {title}\n" +
+        "Category: {category}\n" +
+        "Priority: {priority}\n" +
+        "Submitted by: {submittedBy}\n\n" +
+        "Please log in to the admin panel to view and manage this complaint.\n\n" +
+        "Best regards,\n" +
+        "ResolveIt System");
+    
+    private static final MessageTemplate NOTE_SUBJECT =
+        MessageTemplate.compile("Update on Your Complaint - #{id}");
+    private static final MessageTemplate NOTE_BODY = MessageTemplate.compile(
+        "Dear {name},\n\n" +
+        "There's an update on your complaint.\n\n" +
+        "Complaint ID: #{id}\n" +
+        "Title: {title}\n\n" +
+        "Update:\n{note}\n\n" +
+        "You can view more details by logging into your account.\n\n" +
+        "Best regards,\n" +
+        "ResolveIt Support Team");
+    
+    private static final MessageTemplate DIGEST_SINGLE_SUBJECT =
+        MessageTemplate.compile("Updates on Your Complaint - #{id}");
+    private static final MessageTemplate DIGEST_SUBJECT =
+        MessageTemplate.compile("{count} Updates on Your Complaints");
+    private static final MessageTemplate DIGEST_HEADER = MessageTemplate.compile(
+        "Dear {name},\n\n" +
+        "Here is a summary of recent activity.\n\n");
+    private static final MessageTemplate DIGEST_FOOTER = MessageTemplate.compile(
+        "You can view more details by logging into your account.\n\n" +
+        "Best regards,\n" +
+        "ResolveIt Support Team");
+    private static final MessageTemplate SECTION_HEADER = MessageTemplate.compile(
+        "Complaint ID: #{id}\n" +
+        "Title: {title}\n");
+    private static final MessageTemplate SECTION_SUBMITTED = MessageTemplate.compile(
+        "- Submitted (priority {priority})\n");
+    private static final MessageTemplate SECTION_TRACKING = MessageTemplate.compile(
+        "- Tracking code: {trackingCode}\n");
+    private static final MessageTemplate SECTION_STATUS = MessageTemplate.compile(
+        "- Status: {oldStatus} -> {newStatus}\n");
+    private static final MessageTemplate SECTION_ASSIGNED = MessageTemplate.compile(
+        "- Assigned to you ({category}, priority {priority}, submitted by {submittedBy})\n");
+    private static final MessageTemplate SECTION_NOTE = MessageTemplate.compile(
+        "- Update: {note}\n");
+    
+    private final ConcurrentMap<String, PendingDigest> pending = new ConcurrentHashMap<>();
+    private final AtomicLong eventsReceived = new AtomicLong();
+    private final AtomicLong messagesSent = new AtomicLong();
+    
+    // Injected eagerly even under lazy initialization (faststart profile):
+    // a lazy proxy cannot create the sender once shutdown has begun, which
+    // would drop the digests flushed in flushAll()
+    @Autowired
+    private JavaMailSender mailSender;
+    
+    @Value("${spring.mail.username}")
+    private String fromEmail;
+    
+    @Value("${notifications.digest.window-seconds:600}")
+    private long windowSeconds;
+    
+    @Value("${notifications.digest.max-events:50}")
+    private int maxEvents;
+    
+    public void submit(NotificationEvent event, User.NotificationPreference preference) {
+        if (event.getRecipientEmail() == null || preference == User.NotificationPreference.NONE) {
+            return;
+        }
+        eventsReceived.incrementAndGet();
+        if (preference == User.NotificationPreference.IMMEDIATE) {
+            deliver(List.of(event));
+            return;
+        }
+        long now = System.currentTimeMillis();
+        pending.compute(event.getRecipientEmail(), (recipient, digest) -> {
+            PendingDigest target = digest != null ? digest : new PendingDigest(now);
+            target.events.add(event);
+            return target;
+        });
+    }
+    
+    @Scheduled(fixedDelayString = "${notifications.digest.flush-interval-ms:30000}")
+    public void flushDue() {
+        flush(System.currentTimeMillis() - windowSeconds * 1000, false);
+    }
+    
+    @PreDestroy
+    public void flushAll() {
+        flush(Long.MAX_VALUE, true);
+    }
+    
+    public long getEventsReceived() {
+        return eventsReceived.get();
+    }
+    
+    public long getMessagesSent() {
+        return messagesSent.get();
+    }
+    
+    private void flush(long openedBefore, boolean force) {
+        for (String recipient : pending.keySet()) {
+            List<List<NotificationEvent>> due = new ArrayList<>(1);
+            pending.computeIfPresent(recipient, (key, digest) -> {
+                if (force || digest.openedAt <= openedBefore || digest.events.size() >= maxEvents) {
+                    due.add(digest.events);
+                    return null;
+                }
+                return digest;
+            });
+            due.forEach(this::deliver);
+        }
+    }
+    
+    private void deliver(List<NotificationEvent> events) {
+        NotificationEvent first = events.get(0);
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setFrom(fromEmail);
+        message.setTo(first.getRecipientEmail());
+        if (events.size() == 1) {
+            message.setSubject(subjectTemplate(first.getType()).render(first.getValues()));
+            message.setText(bodyTemplate(first.getType()).render(first.getValues()));
+        } else {
+            renderDigest(message, events);
+        }
+        try {
+            mailSender.send(message);
+            messagesSent.incrementAndGet();
+        } catch (Exception e) {
+            System.err.println("Failed to send email: " + e.getMessage());
+        }
+    }
+    
+    private void renderDigest(SimpleMailMessage message, List<NotificationEvent> events) {
+        Map<Long, List<NotificationEvent>> byComplaint = new LinkedHashMap<>();
+        for (NotificationEvent event : events) {
+            byComplaint.computeIfAbsent(event.getComplaintId(), id -> new ArrayList<>()).add(event);
+        }
+        
+        Map<String, String> header = new HashMap<>();
+        header.put("name", events.get(0).getRecipientName());
+        header.put("count", String.valueOf(events.size()));
+        StringBuilder body = new StringBuilder(256 * byComplaint.size());
+        DIGEST_HEADER.renderTo(body, header);
+        
+        for (List<NotificationEvent> complaintEvents : byComplaint.values()) {
+            NotificationEvent firstEvent = complaintEvents.get(0);
+            SECTION_HEADER.renderTo(body, firstEvent.getValues());
+            NotificationEvent firstStatus = null;
+            NotificationEvent lastStatus = null;
+            for (NotificationEvent event : complaintEvents) {
+                if (event.getType() == NotificationEvent.Type.STATUS_CHANGED) {
+                    firstStatus = firstStatus != null ? firstStatus : event;
+                    lastStatus = event;
+                }
+            }
+            for (NotificationEvent event : complaintEvents) {
+                switch (event.getType()) {
+                    case SUBMITTED -> {
+                        SECTION_SUBMITTED.renderTo(body, event.getValues());
+                        if (!event.getValues().get("trackingCode").isEmpty()) {
+                            SECTION_TRACKING.renderTo(body, event.getValues());
+                        }
+                    }
+                    case STATUS_CHANGED -> {
+                        if (event == lastStatus) {
+                            Map<String, String> values = new HashMap<>(2);
+                            values.put("oldStatus", firstStatus.getValues().get("oldStatus"));
+                            values.put("newStatus", lastStatus.getValues().get("newStatus"));
+                            SECTION_STATUS.renderTo(body, values);
+                        }
+                    }
+                    case ASSIGNED -> SECTION_ASSIGNED.renderTo(body, event.getValues());
+                    case PUBLIC_NOTE -> SECTION_NOTE.renderTo(body, event.getValues());
+                }
+            }
+            body.append('\n');
+        }
+        DIGEST_FOOTER.renderTo(body, header);
+        
+        message.setSubject(byComplaint.size() == 1
+            ? DIGEST_SINGLE_SUBJECT.render(events.get(0).getValues())
+            : DIGEST_SUBJECT.render(header));
+        message.setText(body.toString());
+    }
+    
+    private static MessageTemplate subjectTemplate(NotificationEvent.Type type) {
+        return switch (type) {
+            case SUBMITTED -> SUBMITTED_SUBJECT;
+            case STATUS_CHANGED -> STATUS_SUBJECT;
+            case ASSIGNED -> ASSIGNED_SUBJECT;
+            case PUBLIC_NOTE -> NOTE_SUBJECT;
+        };
+    }
+    
+    private static MessageTemplate bodyTemplate(NotificationEvent.Type type) {
+        return switch (type) {
+            case SUBMITTED -> SUBMITTED_BODY;
+            case STATUS_CHANGED -> STATUS_BODY;
+            case ASSIGNED -> ASSIGNED_BODY;
+            case PUBLIC_NOTE -> NOTE_BODY;
+        };
+    }
+    
+    private static final class PendingDigest {
+        private final long openedAt;
+        private final List<NotificationEvent> events = new ArrayList<>();
+        
+        private PendingDigest(long openedAt) {
+            this.openedAt = openedAt;
+        }
+    }
+}
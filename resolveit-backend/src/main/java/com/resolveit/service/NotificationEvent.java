@@ -0,0 +1,38 @@
+package com.resolveit.service;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * A single notification captured at the moment it happened. All values are
+ * copied out of the entities up front so buffered events never touch a
+ * detached persistence context when the digest is sent later.
+ */
+public class NotificationEvent {
+    private final Type type;
+    private final String recipientEmail;
+    private final String recipientName;
+    private final Long complaintId;
+    private final Map<String, String> values;
+    private final LocalDateTime occurredAt = LocalDateTime.now();
+
+    public NotificationEvent(Type type, String recipientEmail, String recipientName,
+                             Long complaintId, Map<String, String> values) {
+        this.type = type;
+        this.recipientEmail = recipientEmail;
+        this.recipientName = recipientName;
+        this.complaintId = complaintId;
+        this.values = values;
+    }
+
+    public Type getType() { return type; }
+    public String getRecipientEmail() { return recipientEmail; }
+    public String getRecipientName() { return recipientName; }
+    public Long getComplaintId() { return complaintId; }
+    public Map<String, String> getValues() { return values; }
+    public LocalDateTime getOccurredAt() { return occurredAt; }
+
+    public enum Type {
+        SUBMITTED, STATUS_CHANGED, ASSIGNED, PUBLIC_NOTE
+    }
+}
@@ -0,0 +1,40 @@
+package com.resolveit.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fixed-window limiter for public tracking-code lookups, keyed by client
+ * (typically the remote address). Keeps brute-force enumeration of codes
+ * impractical without touching the database for rejected requests.
+ * <p>
+ * A window starts with a client's first request and its counter expires one
+ * window later. The map is bounded, so a flood of distinct client keys
+ * evicts old counters instead of growing or being scanned on every call.
+ */
+@Component
+public class TrackingLookupRateLimiter {
+    
+    private static final Duration WINDOW = Duration.ofMinutes(1);
+    
+    private final Cache<String, AtomicInteger> windows;
+    
+    private final int maxPerMinute;
+    
+    public TrackingLookupRateLimiter(@Value("${tracking.lookup.max-per-minute:30}") int maxPerMinute,
+                                     @Value("${tracking.lookup.max-clients:100000}") long maxClients) {
+        this.maxPerMinute = maxPerMinute;
+        this.windows = Caffeine.newBuilder()
+            .expireAfterWrite(WINDOW)
+            .maximumSize(maxClients)
+            .build();
+    }
+    
+    public boolean tryAcquire(String clientKey) {
+        return windows.get(clientKey, key -> new AtomicInteger()).incrementAndGet() <= maxPerMinute;
+    }
+}
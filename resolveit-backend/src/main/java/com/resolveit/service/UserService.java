@@ -1,13 +1,17 @@
 package com.resolveit.service;
 
+import com.resolveit.config.CacheConfig;
 import com.resolveit.model.User;
 import com.resolveit.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 @Service
 public class UserService {
@@ -18,6 +22,12 @@ public class UserService {
     @Autowired
     private PasswordEncoder passwordEncoder;
     
+    @Autowired
+    private CacheInvalidationService cacheInvalidationService;
+    
+    @Autowired
+    private CacheManager cacheManager;
+    
     public User createUser(User user) {
         user.setPassword(passwordEncoder.encode(user.getPassword()));
         user.setCreatedAt(LocalDateTime.now());
@@ -26,7 +36,7 @@ public class UserService {
     }
     
     public Optional<User> findByUsername(String username) {
-        return userRepository.findByUsername(username);
+        return findCached("username:" + username, () -> userRepository.findByUsername(username));
     }
     
     public Optional<User> findByEmail(String email) {
@@ -34,7 +44,7 @@ public class UserService {
     }
     
     public Optional<User> findById(Long id) {
-        return userRepository.findById(id);
+        return findCached("id:" + id, () -> userRepository.findById(id));
     }
     
     public List<User> getAllUsers() {
@@ -55,10 +65,17 @@ public class UserService {
     
     public User updateUser(User user) {
         user.setUpdatedAt(LocalDateTime.now());
-        return userRepository.save(user);
+        if (user.getId() != null) {
+            // The username may be changing, so evict the stored one as well
+            userRepository.findById(user.getId()).ifPresent(this::evictUser);
+        }
+        User savedUser = userRepository.save(user);
+        evictUser(savedUser);
+        return savedUser;
     }
     
     public void deleteUser(Long id) {
+        userRepository.findById(id).ifPresent(this::evictUser);
         userRepository.deleteById(id);
     }
     
@@ -68,8 +85,31 @@ public class UserService {
             User user = userOpt.get();
             user.setPassword(passwordEncoder.encode(newPassword));
             user.setUpdatedAt(LocalDateTime.now());
-            return userRepository.save(user);
+            User savedUser = userRepository.save(user);
+            evictUser(savedUser);
+            return savedUser;
         }
         throw new RuntimeException("User not found");
     }
+    
+    /**
+     * The cache holds a private copy and every hit returns a fresh one, so a
+     * caller modifying its user before (or without) saving never changes what
+     * other threads read.
+     */
+    private Optional<User> findCached(String key, Supplier<Optional<User>> loader) {
+        Cache cache = cacheManager.getCache(CacheConfig.USERS);
+        User cached = cache.get(key, User.class);
+        if (cached != null) {
+            return Optional.of(new User(cached));
+        }
+        Optional<User> user = loader.get();
+        user.ifPresent(u -> cache.put(key, new User(u)));
+        return user;
+    }
+    
+    private void evictUser(User user) {
+        cacheInvalidationService.evict(CacheConfig.USERS, "id:" + user.getId());
+        cacheInvalidationService.evict(CacheConfig.USERS, "username:" + user.getUsername());
+    }
 }
@@ -0,0 +1,61 @@
+-- Baseline schema matching the JPA entities. Tables use IF NOT EXISTS so that
+-- databases previously created by hibernate ddl-auto=update migrate cleanly.
+
+CREATE TABLE IF NOT EXISTS users (
+    id           BIGINT       NOT NULL AUTO_INCREMENT,
+    username     VARCHAR(50)  NOT NULL,
+    email        VARCHAR(100) NOT NULL,
+    password     VARCHAR(100) NOT NULL,
+    first_name   VARCHAR(50)  NOT NULL,
+    last_name    VARCHAR(50)  NOT NULL,
+    phone_number VARCHAR(15),
+    role         VARCHAR(20),
+    created_at   DATETIME(6),
+    updated_at   DATETIME(6),
+    enabled      BIT          NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_username UNIQUE (username),
+    CONSTRAINT uk_users_email UNIQUE (email)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS complaints (
+    id          BIGINT        NOT NULL AUTO_INCREMENT,
+    title       VARCHAR(200)  NOT NULL,
+    description VARCHAR(2000) NOT NULL,
+    category    VARCHAR(20),
+    priority    VARCHAR(20),
+    status      VARCHAR(20),
+    user_id     BIGINT,
+    assigned_to BIGINT,
+    created_at  DATETIME(6),
+    updated_at  DATETIME(6),
+    resolved_at DATETIME(6),
+    resolution  VARCHAR(1000),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_complaints_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_complaints_assigned_to FOREIGN KEY (assigned_to) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS status_history (
+    id           BIGINT NOT NULL AUTO_INCREMENT,
+    complaint_id BIGINT,
+    status       VARCHAR(20),
+    changed_by   BIGINT,
+    `timestamp`  DATETIME(6),
+    notes        VARCHAR(255),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_status_history_complaint FOREIGN KEY (complaint_id) REFERENCES complaints (id),
+    CONSTRAINT fk_status_history_changed_by FOREIGN KEY (changed_by) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS internal_notes (
+    id           BIGINT        NOT NULL AUTO_INCREMENT,
+    complaint_id BIGINT,
+    note         VARCHAR(1000) NOT NULL,
+    created_by   BIGINT,
+    created_at   DATETIME(6),
+    is_public    BIT           NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_internal_notes_complaint FOREIGN KEY (complaint_id) REFERENCES complaints (id),
+    CONSTRAINT fk_internal_notes_created_by FOREIGN KEY (created_by) REFERENCES users (id)
+) ENGINE = InnoDB;
@@ -0,0 +1,33 @@
+-- Secondary indexes, one per repository access path. Each filter column is
+-- paired with created_at so paged listings sorted by submission date can be
+-- served from the index without a filesort.
+
+-- ComplaintRepository.findByUser / ComplaintService.getComplaintsByUser
+CREATE INDEX idx_complaints_user_created ON complaints (user_id, created_at);
+
+-- ComplaintRepository.findByAssignedTo
+CREATE INDEX idx_complaints_assigned_created ON complaints (assigned_to, created_at);
+
+-- ComplaintRepository.findByStatus, countByStatus, getComplaintsByStatus
+CREATE INDEX idx_complaints_status_created ON complaints (status, created_at);
+
+-- ComplaintRepository.findByCategory, getComplaintsByCategory
+CREATE INDEX idx_complaints_category_created ON complaints (category, created_at);
+
+-- ComplaintRepository.findByPriority
+CREATE INDEX idx_complaints_priority_created ON complaints (priority, created_at);
+
+-- ComplaintRepository.findByCreatedAtBetween
+CREATE INDEX idx_complaints_created ON complaints (created_at);
+
+-- StatusHistoryRepository.findByComplaint(Id)OrderByTimestampDesc
+CREATE INDEX idx_status_history_complaint_ts ON status_history (complaint_id, `timestamp`);
+
+-- InternalNoteRepository.findByComplaint(Id)OrderByCreatedAtDesc
+CREATE INDEX idx_internal_notes_complaint_created ON internal_notes (complaint_id, created_at);
+
+-- InternalNoteRepository.findByComplaintAndIsPublicOrderByCreatedAtDesc
+CREATE INDEX idx_internal_notes_complaint_public_created ON internal_notes (complaint_id, is_public, created_at);
+
+-- UserRepository.findByRole, findAllAdminsAndModerators
+CREATE INDEX idx_users_role ON users (role);
@@ -0,0 +1,11 @@
+-- Anonymous submissions: complaints without a user, tracked by a random code.
+
+ALTER TABLE complaints
+    ADD COLUMN tracking_code   VARCHAR(24),
+    ADD COLUMN is_anonymous    BIT NOT NULL DEFAULT 0,
+    ADD COLUMN anonymous_email VARCHAR(100),
+    ADD COLUMN anonymous_phone VARCHAR(15);
+
+-- Public tracking lookups resolve a code to a single row through this index.
+ALTER TABLE complaints
+    ADD CONSTRAINT uk_complaints_tracking_code UNIQUE (tracking_code);
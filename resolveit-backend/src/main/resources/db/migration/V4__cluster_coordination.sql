@@ -0,0 +1,22 @@
+-- Coordination between application replicas through the shared database.
+
+-- Named leases used for leader election of scheduled jobs. A lease is held
+-- by owner until expires_at, measured on the database clock.
+CREATE TABLE cluster_leases (
+    name       VARCHAR(100) NOT NULL,
+    owner      VARCHAR(100) NOT NULL,
+    expires_at DATETIME(3)  NOT NULL,
+    PRIMARY KEY (name)
+) ENGINE = InnoDB;
+
+-- Change log polled by every node to evict stale local cache entries.
+-- A NULL cache_key clears the whole cache.
+CREATE TABLE cache_invalidations (
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    cache_name  VARCHAR(100) NOT NULL,
+    cache_key   VARCHAR(255),
+    origin_node VARCHAR(100) NOT NULL,
+    created_at  DATETIME(3)  NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+    PRIMARY KEY (id),
+    INDEX idx_cache_invalidations_created (created_at)
+) ENGINE = InnoDB;
@@ -0,0 +1,4 @@
+-- Per-user email preference: IMMEDIATE, DIGEST or NONE.
+
+ALTER TABLE users
+    ADD COLUMN notification_preference VARCHAR(20) NOT NULL DEFAULT 'DIGEST';
@@ -0,0 +1,85 @@
+package com.resolveit.controller;
+
+import com.resolveit.config.SecurityConfig;
+import com.resolveit.model.User;
+import com.resolveit.service.ComplaintService;
+import com.resolveit.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Authenticates with HTTP basic against stored users, without mock
+ * principals, to check that stored roles reach the internal notes check.
+ */
+@WebMvcTest(ComplaintFeedController.class)
+@Import(SecurityConfig.class)
+class ComplaintFeedAuthenticationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @MockBean
+    private ComplaintService complaintService;
+
+    @MockBean
+    private UserService userService;
+
+    @BeforeEach
+    void setUp() {
+        when(userService.findByUsername(anyString())).thenReturn(Optional.empty());
+        stubUser("moderator", User.Role.MODERATOR, true);
+        stubUser("customer", User.Role.USER, true);
+        stubUser("former", User.Role.ADMIN, false);
+        when(complaintService.getComplaintNoteEntries(7L, false)).thenReturn(List.of());
+    }
+
+    @Test
+    void storedModeratorReadsInternalNotes() throws Exception {
+        mockMvc.perform(internalNotes().with(httpBasic("moderator", "secret")))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    void storedUserIsRefusedInternalNotes() throws Exception {
+        mockMvc.perform(internalNotes().with(httpBasic("customer", "secret")))
+            .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void disabledOrUnknownAccountsAreNotAuthenticated() throws Exception {
+        mockMvc.perform(internalNotes().with(httpBasic("former", "secret")))
+            .andExpect(status().isUnauthorized());
+        mockMvc.perform(internalNotes().with(httpBasic("user", "secret")))
+            .andExpect(status().isUnauthorized());
+    }
+
+    private MockHttpServletRequestBuilder internalNotes() {
+        return get("/api/feed/complaints/7/notes").param("publicOnly", "false").accept(MediaType.APPLICATION_JSON);
+    }
+
+    private void stubUser(String username, User.Role role, boolean enabled) {
+        User user = new User(username, username + "@resolveit.test", passwordEncoder.encode("secret"), "Test", "User");
+        user.setRole(role);
+        user.setEnabled(enabled);
+        when(userService.findByUsername(username)).thenReturn(Optional.of(user));
+    }
+}
@@ -0,0 +1,121 @@
+package com.resolveit.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.resolveit.dto.ComplaintSummary;
+import com.resolveit.dto.NoteEntry;
+import com.resolveit.dto.StatusHistoryEntry;
+import com.resolveit.model.Complaint;
+import com.resolveit.service.ComplaintService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(ComplaintFeedController.class)
+@WithMockUser
+class ComplaintFeedControllerTest {
+
+    private static final LocalDateTime CHANGED_AT = LocalDateTime.of(2024, 3, 1, 9, 30, 15);
+
+    private final ObjectMapper cborReader = new ObjectMapper(new CBORFactory());
+    private final ObjectMapper jsonReader = new ObjectMapper();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ComplaintService complaintService;
+
+    @Test
+    void cborHistoryUsesTheSameJacksonSettingsAsJson() throws Exception {
+        when(complaintService.getComplaintHistoryEntries(7L)).thenReturn(List.of(
+            new StatusHistoryEntry(1L, Complaint.Status.IN_PROGRESS, 3L, "Ada", "Lovelace", CHANGED_AT, "Picked up")));
+
+        byte[] cbor = mockMvc.perform(get("/api/feed/complaints/7/history").accept(MediaType.APPLICATION_CBOR))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+            .andReturn().getResponse().getContentAsByteArray();
+        byte[] json = mockMvc.perform(get("/api/feed/complaints/7/history").accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode fromCbor = cborReader.readTree(cbor);
+        JsonNode fromJson = jsonReader.readTree(json);
+        assertTrue(fromCbor.get(0).get("timestamp").isTextual(), "timestamp encoded as " + fromCbor.get(0).get("timestamp"));
+        assertEquals("2024-03-01T09:30:15", fromCbor.get(0).get("timestamp").asText());
+        assertEquals(fromJson, fromCbor);
+    }
+
+    @Test
+    void cborSummaryPageIsSmallerThanJson() throws Exception {
+        List<ComplaintSummary> summaries = new ArrayList<>();
+        for (long id = 1; id <= 100; id++) {
+            summaries.add(new ComplaintSummary(id, "Complaint about billing #" + id, Complaint.Category.BILLING,
+                Complaint.Priority.MEDIUM, Complaint.Status.IN_PROGRESS, 10 + id, id % 2 == 0 ? 3L : null,
+                false, CHANGED_AT, CHANGED_AT.plusHours(id), null));
+        }
+        when(complaintService.getComplaintSummaries(isNull(), any()))
+            .thenReturn(new PageImpl<>(summaries, PageRequest.of(0, 100), 1_000));
+
+        byte[] cbor = mockMvc.perform(get("/api/feed/complaints").param("size", "100").accept(MediaType.APPLICATION_CBOR))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsByteArray();
+        byte[] json = mockMvc.perform(get("/api/feed/complaints").param("size", "100").accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsByteArray();
+
+        assertEquals(jsonReader.readTree(json), cborReader.readTree(cbor));
+        assertTrue(cbor.length < json.length, "CBOR " + cbor.length + " B, JSON " + json.length + " B");
+    }
+
+    @Test
+    void noteVisibilityIsSerializedAsIsPublic() throws Exception {
+        when(complaintService.getComplaintNoteEntries(7L, true)).thenReturn(List.of(
+            new NoteEntry(5L, "We are on it", 3L, CHANGED_AT, true)));
+
+        byte[] cbor = mockMvc.perform(get("/api/feed/complaints/7/notes").accept(MediaType.APPLICATION_CBOR))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode note = cborReader.readTree(cbor).get(0);
+        assertTrue(note.get("isPublic").asBoolean());
+        assertFalse(note.has("public"));
+    }
+
+    @Test
+    void internalNotesAreForbiddenForRegularUsers() throws Exception {
+        mockMvc.perform(get("/api/feed/complaints/7/notes").param("publicOnly", "false"))
+            .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithMockUser(roles = "MODERATOR")
+    void internalNotesAreServedToModerators() throws Exception {
+        when(complaintService.getComplaintNoteEntries(7L, false)).thenReturn(List.of(
+            new NoteEntry(6L, "Customer called twice", 3L, CHANGED_AT, false)));
+
+        mockMvc.perform(get("/api/feed/complaints/7/notes").param("publicOnly", "false")
+                .accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk());
+    }
+}
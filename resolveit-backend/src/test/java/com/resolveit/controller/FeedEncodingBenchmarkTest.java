@@ -0,0 +1,123 @@
+package com.resolveit.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.resolveit.dto.ComplaintSummary;
+import com.resolveit.dto.PageResponse;
+import com.resolveit.dto.StatusHistoryEntry;
+import com.resolveit.model.Complaint;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares JSON and CBOR for the feed payloads: encoded size, gzip size and
+ * serialize/deserialize throughput. Both mappers get the same settings as in
+ * the application (ISO dates). Numbers are printed; the assertions only pin
+ * the size advantage that motivates serving CBOR. Runs with -Pbenchmark only;
+ * ComplaintFeedControllerTest checks the size advantage on served responses.
+ */
+@Tag("benchmark")
+class FeedEncodingBenchmarkTest {
+
+    private static final int WARMUP_ROUNDS = 300;
+    private static final int MEASURED_ROUNDS = 1_000;
+
+    private static final ObjectMapper JSON = Jackson2ObjectMapperBuilder.json()
+        .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build();
+    private static final ObjectMapper CBOR = Jackson2ObjectMapperBuilder.cbor()
+        .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build();
+
+    private static PageResponse<ComplaintSummary> summaryPage;
+    private static List<StatusHistoryEntry> history;
+
+    @BeforeAll
+    static void buildPayloads() {
+        Random random = new Random(7);
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+        List<ComplaintSummary> summaries = new ArrayList<>(500);
+        for (long id = 1; id <= 500; id++) {
+            LocalDateTime created = start.plusMinutes(random.nextInt(500_000));
+            boolean resolved = random.nextBoolean();
+            summaries.add(new ComplaintSummary(id, "Complaint about " + (resolved ? "billing" : "service") + " #" + id,
+                Complaint.Category.values()[random.nextInt(Complaint.Category.values().length)],
+                Complaint.Priority.values()[random.nextInt(Complaint.Priority.values().length)],
+                Complaint.Status.values()[random.nextInt(Complaint.Status.values().length)],
+                (long) random.nextInt(10_000), random.nextBoolean() ? (long) random.nextInt(50) : null,
+                random.nextInt(10) == 0, created, created.plusHours(3), resolved ? created.plusDays(2) : null));
+        }
+        summaryPage = new PageResponse<>(new PageImpl<>(summaries, PageRequest.of(0, 500), 120_000));
+
+        history = new ArrayList<>(50);
+        for (long id = 1; id <= 50; id++) {
+            history.add(new StatusHistoryEntry(id, Complaint.Status.values()[(int) (id % 6)], 10 + id % 5,
+                "Moderator", "Number" + id % 5, start.plusHours(id), "Status changed by moderator"));
+        }
+    }
+
+    @Test
+    void complaintSummaryPage() throws IOException {
+        compare("ComplaintSummary page (500)", summaryPage);
+    }
+
+    @Test
+    void statusHistoryList() throws IOException {
+        compare("StatusHistoryEntry list (50)", history);
+    }
+
+    private static void compare(String payload, Object value) throws IOException {
+        Result json = measure(JSON, value);
+        Result cbor = measure(CBOR, value);
+        System.out.printf("%s%n  JSON: %7d B, gzip %6d B, serialize %8.0f/s, deserialize %8.0f/s%n"
+                + "  CBOR: %7d B, gzip %6d B, serialize %8.0f/s, deserialize %8.0f/s%n",
+            payload, json.bytes, json.gzipBytes, json.serializePerSecond, json.deserializePerSecond,
+            cbor.bytes, cbor.gzipBytes, cbor.serializePerSecond, cbor.deserializePerSecond);
+        assertTrue(cbor.bytes < json.bytes, "CBOR should be smaller than JSON for " + payload);
+    }
+
+    private static Result measure(ObjectMapper mapper, Object value) throws IOException {
+        byte[] encoded = mapper.writeValueAsBytes(value);
+        // DTOs have no default constructors, so decoding goes to the tree model
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            mapper.readTree(mapper.writeValueAsBytes(value));
+        }
+
+        long started = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            mapper.writeValueAsBytes(value);
+        }
+        double serializeSeconds = (System.nanoTime() - started) / 1e9;
+
+        started = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            mapper.readTree(encoded);
+        }
+        double deserializeSeconds = (System.nanoTime() - started) / 1e9;
+
+        return new Result(encoded.length, gzip(encoded).length,
+            MEASURED_ROUNDS / serializeSeconds, MEASURED_ROUNDS / deserializeSeconds);
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.toByteArray();
+    }
+
+    private record Result(int bytes, int gzipBytes, double serializePerSecond, double deserializePerSecond) {
+    }
+}
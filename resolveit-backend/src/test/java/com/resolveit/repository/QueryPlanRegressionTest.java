@@ -0,0 +1,343 @@
+package com.resolveit.repository;
+
+import com.resolveit.model.Complaint;
+import com.resolveit.model.User;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs every repository query against a seeded MySQL schema built by the
+ * Flyway migrations, captures the SQL Hibernate actually sends together with
+ * its bind values, and EXPLAINs it. A table accessed with type ALL fails the
+ * test unless the query is listed in ALLOWED_FULL_SCANS.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Testcontainers(disabledWithoutDocker = true)
+@Import(QueryPlanRegressionTest.RecordingConfig.class)
+class QueryPlanRegressionTest {
+
+    // Queries that cannot use a B-tree index and are accepted as full scans
+    private static final Map<String, String> ALLOWED_FULL_SCANS = Map.of(
+        "ComplaintRepository.searchByKeyword",
+        "LIKE with a leading wildcard on title/description; needs a FULLTEXT index to avoid the scan");
+
+    private static final Pageable NEWEST_FIRST = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+    @Container
+    static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    @DynamicPropertySource
+    static void datasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+        registry.add("spring.datasource.username", MYSQL::getUsername);
+        registry.add("spring.datasource.password", MYSQL::getPassword);
+    }
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ComplaintRepository complaintRepository;
+
+    @Autowired
+    private StatusHistoryRepository statusHistoryRepository;
+
+    @Autowired
+    private InternalNoteRepository internalNoteRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    /**
+     * Seeds enough rows that the optimizer prefers indexes where they exist;
+     * on near-empty tables MySQL picks full scans regardless of indexes.
+     */
+    @BeforeAll
+    void seed() {
+        String seq = "WITH RECURSIVE seq (n) AS (SELECT 0 UNION ALL SELECT n + 1 FROM seq WHERE n < 999) ";
+        jdbcTemplate.update(
+            "INSERT INTO users (username, email, password, first_name, last_name, role, created_at, updated_at, enabled) " +
+            seq + "SELECT CONCAT('user', n), CONCAT('user', n, '@example.com'), 'x', 'First', 'Last', " +
+            "CASE WHEN n % 50 = 0 THEN 'MODERATOR' WHEN n % 100 = 1 THEN 'ADMIN' ELSE 'USER' END, " +
+            "NOW(), NOW(), 1 FROM seq");
+        jdbcTemplate.update(
+            "INSERT INTO complaints (title, description, category, priority, status, user_id, assigned_to, " +
+            "created_at, updated_at, tracking_code, is_anonymous) " +
+            seq + "SELECT CONCAT('Complaint ', i), 'Seeded complaint', " +
+            "ELT(1 + i % 5, 'TECHNICAL', 'BILLING', 'SERVICE', 'GENERAL', 'URGENT'), " +
+            "ELT(1 + i % 4, 'LOW', 'MEDIUM', 'HIGH', 'CRITICAL'), " +
+            "ELT(1 + i % 6, 'SUBMITTED', 'IN_PROGRESS', 'UNDER_REVIEW', 'RESOLVED', 'CLOSED', 'ESCALATED'), " +
+            "1 + i % 1000, IF(i % 3 = 0, NULL, 1 + (i % 20) * 50), " +
+            "NOW() - INTERVAL i MINUTE, NOW() - INTERVAL i MINUTE, " +
+            "IF(i % 10 = 0, CONCAT('RI-', LPAD(i, 16, '0')), NULL), i % 10 = 0 " +
+            "FROM (SELECT a.n * 20 + b.n AS i FROM seq a CROSS JOIN seq b WHERE b.n < 20) s");
+        jdbcTemplate.update(
+            "INSERT INTO status_history (complaint_id, status, changed_by, `timestamp`, notes) " +
+            "SELECT c.id, c.status, c.assigned_to, c.created_at + INTERVAL k.n SECOND, 'Seeded' " +
+            "FROM complaints c CROSS JOIN (SELECT 0 AS n UNION ALL SELECT 1 UNION ALL SELECT 2) k");
+        jdbcTemplate.update(
+            "INSERT INTO internal_notes (complaint_id, note, created_by, created_at, is_public) " +
+            "SELECT c.id, 'Seeded note', c.assigned_to, c.created_at + INTERVAL k.n SECOND, k.n " +
+            "FROM complaints c CROSS JOIN (SELECT 0 AS n UNION ALL SELECT 1) k");
+        jdbcTemplate.execute("ANALYZE TABLE users, complaints, status_history, internal_notes");
+    }
+
+    @Test
+    void complaintRepositoryQueriesUseIndexes() {
+        User user = userRepository.findById(2L).orElseThrow();
+        User moderator = userRepository.findById(51L).orElseThrow();
+        LocalDateTime now = LocalDateTime.now();
+
+        List<String> violations = new ArrayList<>();
+        check(violations, "ComplaintRepository.findById", () -> complaintRepository.findById(10L));
+        check(violations, "ComplaintRepository.findByUser", () -> complaintRepository.findByUser(user, NEWEST_FIRST));
+        check(violations, "ComplaintRepository.findByAssignedTo",
+            () -> complaintRepository.findByAssignedTo(moderator, NEWEST_FIRST));
+        check(violations, "ComplaintRepository.findByStatus",
+            () -> complaintRepository.findByStatus(Complaint.Status.ESCALATED, NEWEST_FIRST));
+        check(violations, "ComplaintRepository.findByCategory",
+            () -> complaintRepository.findByCategory(Complaint.Category.URGENT, NEWEST_FIRST));
+        check(violations, "ComplaintRepository.findByPriority",
+            () -> complaintRepository.findByPriority(Complaint.Priority.CRITICAL, NEWEST_FIRST));
+        check(violations, "ComplaintRepository.findByCreatedAtBetween",
+            () -> complaintRepository.findByCreatedAtBetween(now.minusHours(6), now));
+        check(violations, "ComplaintRepository.countByStatus",
+            () -> complaintRepository.countByStatus(Complaint.Status.RESOLVED));
+        check(violations, "ComplaintRepository.getComplaintsByCategory", complaintRepository::getComplaintsByCategory);
+        check(violations, "ComplaintRepository.getComplaintsByStatus", complaintRepository::getComplaintsByStatus);
+        check(violations, "ComplaintRepository.searchByKeyword",
+            () -> complaintRepository.searchByKeyword("refund", NEWEST_FIRST));
+        check(violations, "ComplaintRepository.findTrackingViewByCode",
+            () -> complaintRepository.findTrackingViewByCode("RI-0000000000000010"));
+        check(violations, "ComplaintRepository.existsByTrackingCode",
+            () -> complaintRepository.existsByTrackingCode("RI-0000000000000010"));
+        check(violations, "ComplaintRepository.findAllSummaries", () -> complaintRepository.findAllSummaries(NEWEST_FIRST));
+        check(violations, "ComplaintRepository.findSummariesByStatus",
+            () -> complaintRepository.findSummariesByStatus(Complaint.Status.IN_PROGRESS, NEWEST_FIRST));
+        assertTrue(violations.isEmpty(), String.join("\n", violations));
+    }
+
+    @Test
+    void historyAndNoteQueriesUseIndexes() {
+        Complaint complaint = complaintRepository.findById(10L).orElseThrow();
+
+        List<String> violations = new ArrayList<>();
+        check(violations, "StatusHistoryRepository.findByComplaintOrderByTimestampDesc",
+            () -> statusHistoryRepository.findByComplaintOrderByTimestampDesc(complaint));
+        check(violations, "StatusHistoryRepository.findByComplaintIdOrderByTimestampDesc",
+            () -> statusHistoryRepository.findByComplaintIdOrderByTimestampDesc(10L));
+        check(violations, "StatusHistoryRepository.findEntriesByComplaintId",
+            () -> statusHistoryRepository.findEntriesByComplaintId(10L));
+        check(violations, "InternalNoteRepository.findByComplaintOrderByCreatedAtDesc",
+            () -> internalNoteRepository.findByComplaintOrderByCreatedAtDesc(complaint));
+        check(violations, "InternalNoteRepository.findByComplaintIdOrderByCreatedAtDesc",
+            () -> internalNoteRepository.findByComplaintIdOrderByCreatedAtDesc(10L));
+        check(violations, "InternalNoteRepository.findByComplaintAndIsPublicOrderByCreatedAtDesc",
+            () -> internalNoteRepository.findByComplaintAndIsPublicOrderByCreatedAtDesc(complaint, true));
+        check(violations, "InternalNoteRepository.findEntriesByComplaintId",
+            () -> internalNoteRepository.findEntriesByComplaintId(10L));
+        check(violations, "InternalNoteRepository.findPublicEntriesByComplaintId",
+            () -> internalNoteRepository.findPublicEntriesByComplaintId(10L));
+        assertTrue(violations.isEmpty(), String.join("\n", violations));
+    }
+
+    @Test
+    void userRepositoryQueriesUseIndexes() {
+        List<String> violations = new ArrayList<>();
+        check(violations, "UserRepository.findByUsername", () -> userRepository.findByUsername("user7"));
+        check(violations, "UserRepository.findByEmail", () -> userRepository.findByEmail("user7@example.com"));
+        check(violations, "UserRepository.existsByUsername", () -> userRepository.existsByUsername("user7"));
+        check(violations, "UserRepository.existsByEmail", () -> userRepository.existsByEmail("user7@example.com"));
+        check(violations, "UserRepository.findAllAdminsAndModerators", userRepository::findAllAdminsAndModerators);
+        check(violations, "UserRepository.findByRole", () -> userRepository.findByRole(User.Role.MODERATOR));
+        assertTrue(violations.isEmpty(), String.join("\n", violations));
+    }
+
+    /**
+     * Executes the repository call, then EXPLAINs every SELECT it issued and
+     * records full table scans that are not explicitly allowed.
+     */
+    private void check(List<String> violations, String name, Runnable call) {
+        List<RecordedQuery> queries = ((RecordingDataSource) dataSource).record(call);
+        assertFalse(queries.isEmpty(), name + " issued no SELECT");
+        for (RecordedQuery query : queries) {
+            for (String fullScan : explainFullScans(query)) {
+                if (ALLOWED_FULL_SCANS.containsKey(name)) {
+                    System.out.println("Allowed full scan in " + name + " on " + fullScan + ": "
+                        + ALLOWED_FULL_SCANS.get(name));
+                } else {
+                    violations.add(name + " scans " + fullScan + " in full: " + query.sql);
+                }
+            }
+        }
+    }
+
+    private List<String> explainFullScans(RecordedQuery query) {
+        return jdbcTemplate.execute((ConnectionCallback<List<String>>) connection -> {
+            List<String> fullScans = new ArrayList<>();
+            try (PreparedStatement explain = connection.prepareStatement("EXPLAIN " + query.sql)) {
+                query.bindTo(explain);
+                try (ResultSet plan = explain.executeQuery()) {
+                    while (plan.next()) {
+                        if ("ALL".equals(plan.getString("type"))) {
+                            fullScans.add(plan.getString("table"));
+                        }
+                    }
+                }
+            }
+            return fullScans;
+        });
+    }
+
+    @TestConfiguration
+    static class RecordingConfig {
+
+        @Bean
+        static BeanPostProcessor recordingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource && !(bean instanceof RecordingDataSource)
+                        ? new RecordingDataSource(dataSource)
+                        : bean;
+                }
+            };
+        }
+    }
+
+    /**
+     * Wraps connections so that prepared SELECT statements are captured with
+     * their bind calls while recording is switched on.
+     */
+    static class RecordingDataSource extends DelegatingDataSource {
+
+        private final List<RecordedQuery> queries = new CopyOnWriteArrayList<>();
+        private volatile boolean recording;
+
+        RecordingDataSource(DataSource target) {
+            super(target);
+        }
+
+        synchronized List<RecordedQuery> record(Runnable call) {
+            queries.clear();
+            recording = true;
+            try {
+                call.run();
+            } finally {
+                recording = false;
+            }
+            return List.copyOf(queries);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return wrap(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return wrap(super.getConnection(username, password));
+        }
+
+        private Connection wrap(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {Connection.class},
+                (proxy, method, args) -> {
+                    Object result = invoke(connection, method, args);
+                    if (recording && method.getName().equals("prepareStatement")
+                            && result instanceof PreparedStatement statement
+                            && ((String) args[0]).trim().toLowerCase().startsWith("select")) {
+                        return wrap(statement, (String) args[0]);
+                    }
+                    return result;
+                });
+        }
+
+        private PreparedStatement wrap(PreparedStatement statement, String sql) {
+            RecordedQuery query = new RecordedQuery(sql);
+            return (PreparedStatement) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] {PreparedStatement.class},
+                (proxy, method, args) -> {
+                    if (method.getName().startsWith("set") && args != null && args.length >= 2
+                            && args[0] instanceof Integer) {
+                        query.binds.add(new Bind(method, args));
+                    } else if (method.getName().startsWith("execute")) {
+                        queries.add(query);
+                    }
+                    return invoke(statement, method, args);
+                });
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    static final class RecordedQuery {
+        private final String sql;
+        private final List<Bind> binds = new ArrayList<>();
+
+        private RecordedQuery(String sql) {
+            this.sql = sql;
+        }
+
+        private void bindTo(PreparedStatement statement) throws SQLException {
+            for (Bind bind : binds) {
+                try {
+                    bind.method.invoke(statement, bind.args);
+                } catch (ReflectiveOperationException e) {
+                    throw new SQLException("Cannot replay bind " + bind.method.getName(), e);
+                }
+            }
+        }
+    }
+
+    private record Bind(Method method, Object[] args) {
+    }
+}
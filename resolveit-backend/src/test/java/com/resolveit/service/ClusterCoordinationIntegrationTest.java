@@ -0,0 +1,232 @@
+package com.resolveit.service;
+
+import com.resolveit.ResolveItApplication;
+import com.resolveit.config.CacheConfig;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Starts three application contexts against one MySQL database, standing in
+ * for three replicas, and checks lease ownership and cross-node cache
+ * invalidation through the shared tables.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ClusterCoordinationIntegrationTest {
+
+    private static final int NODES = 3;
+    private static final Duration PROPAGATION_TIMEOUT = Duration.ofSeconds(10);
+
+    @Container
+    static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    private static final List<ConfigurableApplicationContext> nodes = new ArrayList<>();
+
+    @BeforeAll
+    static void startNodes() {
+        // Sequential start so only the first node runs the Flyway migrations
+        for (int i = 0; i < NODES; i++) {
+            nodes.add(new SpringApplicationBuilder(ResolveItApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                    "spring.datasource.url=" + MYSQL.getJdbcUrl(),
+                    "spring.datasource.username=" + MYSQL.getUsername(),
+                    "spring.datasource.password=" + MYSQL.getPassword(),
+                    "spring.jpa.show-sql=false",
+                    "cluster.node-id=node-" + i,
+                    "cluster.invalidation.poll-interval-ms=100")
+                .run());
+        }
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        nodes.forEach(ConfigurableApplicationContext::close);
+    }
+
+    @BeforeEach
+    void clearCaches() {
+        for (int i = 0; i < NODES; i++) {
+            cache(i).clear();
+        }
+    }
+
+    @Test
+    void onlyOneNodeHoldsALease() throws Exception {
+        for (int round = 0; round < 20; round++) {
+            String lease = "test-lease-" + round;
+            CyclicBarrier start = new CyclicBarrier(NODES);
+            ExecutorService executor = Executors.newFixedThreadPool(NODES);
+            List<CompletableFuture<Boolean>> attempts = new ArrayList<>();
+            for (int i = 0; i < NODES; i++) {
+                ClusterLockService locks = locks(i);
+                attempts.add(CompletableFuture.supplyAsync(() -> {
+                    arrive(start);
+                    return locks.tryAcquire(lease, Duration.ofMinutes(1));
+                }, executor));
+            }
+            executor.shutdown();
+
+            int holder = -1;
+            for (int i = 0; i < NODES; i++) {
+                if (attempts.get(i).get(10, TimeUnit.SECONDS)) {
+                    assertEquals(-1, holder, "Both node-" + holder + " and node-" + i + " acquired " + lease);
+                    holder = i;
+                }
+            }
+            assertTrue(holder >= 0, "No node acquired " + lease);
+
+            // Renewal keeps the lease with its holder
+            for (int i = 0; i < NODES; i++) {
+                assertEquals(i == holder, locks(i).tryAcquire(lease, Duration.ofMinutes(1)));
+            }
+        }
+    }
+
+    @Test
+    void expiredLeaseIsTakenOverByAnotherNode() throws InterruptedException {
+        assertTrue(locks(0).tryAcquire("test-expiry", Duration.ofMillis(300)));
+        assertFalse(locks(1).tryAcquire("test-expiry", Duration.ofMinutes(1)));
+
+        Thread.sleep(600);
+
+        assertTrue(locks(1).tryAcquire("test-expiry", Duration.ofMinutes(1)));
+        assertFalse(locks(0).tryAcquire("test-expiry", Duration.ofMinutes(1)));
+        assertFalse(locks(2).tryAcquire("test-expiry", Duration.ofMinutes(1)));
+    }
+
+    @Test
+    void evictionOnOneNodePropagatesToTheOthers() {
+        String key = "id:42";
+        for (int i = 0; i < NODES; i++) {
+            cache(i).put(key, "cached on node-" + i);
+        }
+
+        transaction(0).executeWithoutResult(status -> {
+            invalidation(0).evict(CacheConfig.USERS, key);
+            // Local eviction waits for commit, like the remote ones
+            assertNotNull(cache(0).get(key));
+        });
+
+        assertNull(cache(0).get(key));
+        await().atMost(PROPAGATION_TIMEOUT).untilAsserted(() -> {
+            for (int i = 1; i < NODES; i++) {
+                assertNull(cache(i).get(key), "node-" + i + " still caches " + key);
+            }
+        });
+    }
+
+    @Test
+    void rolledBackEvictionIsNotApplied() throws InterruptedException {
+        String key = "id:43";
+        for (int i = 0; i < NODES; i++) {
+            cache(i).put(key, "cached on node-" + i);
+        }
+
+        transaction(0).executeWithoutResult(status -> {
+            invalidation(0).evict(CacheConfig.USERS, key);
+            status.setRollbackOnly();
+        });
+
+        // Give the other nodes several poll cycles to (wrongly) pick it up
+        Thread.sleep(1000);
+        for (int i = 0; i < NODES; i++) {
+            assertNotNull(cache(i).get(key), "node-" + i + " evicted after rollback");
+        }
+    }
+
+    @Test
+    void evictionCommittedOutOfIdOrderIsStillApplied() throws Exception {
+        String slowKey = "id:44";
+        String fastKey = "id:45";
+        for (int i = 0; i < NODES; i++) {
+            cache(i).put(slowKey, "cached on node-" + i);
+            cache(i).put(fastKey, "cached on node-" + i);
+        }
+
+        // The slow transaction takes the lower id but commits last
+        CountDownLatch slowInserted = new CountDownLatch(1);
+        CountDownLatch releaseSlow = new CountDownLatch(1);
+        CompletableFuture<Void> slow = CompletableFuture.runAsync(() ->
+            transaction(0).executeWithoutResult(status -> {
+                invalidation(0).evict(CacheConfig.USERS, slowKey);
+                slowInserted.countDown();
+                awaitLatch(releaseSlow);
+            }));
+        assertTrue(slowInserted.await(10, TimeUnit.SECONDS));
+        transaction(1).executeWithoutResult(status -> invalidation(1).evict(CacheConfig.USERS, fastKey));
+
+        // Other nodes move past the slow entry's id before it becomes visible
+        await().atMost(PROPAGATION_TIMEOUT).untilAsserted(() -> assertNull(cache(2).get(fastKey)));
+        Thread.sleep(500);
+        assertNotNull(cache(2).get(slowKey));
+
+        releaseSlow.countDown();
+        slow.get(10, TimeUnit.SECONDS);
+
+        await().atMost(PROPAGATION_TIMEOUT).untilAsserted(() -> {
+            for (int i = 0; i < NODES; i++) {
+                assertNull(cache(i).get(slowKey), "node-" + i + " missed the out-of-order eviction");
+            }
+        });
+    }
+
+    private static ClusterLockService locks(int node) {
+        return nodes.get(node).getBean(ClusterLockService.class);
+    }
+
+    private static CacheInvalidationService invalidation(int node) {
+        return nodes.get(node).getBean(CacheInvalidationService.class);
+    }
+
+    private static TransactionTemplate transaction(int node) {
+        return new TransactionTemplate(nodes.get(node).getBean(PlatformTransactionManager.class));
+    }
+
+    private static Cache cache(int node) {
+        return nodes.get(node).getBean(CacheManager.class).getCache(CacheConfig.USERS);
+    }
+
+    private static void arrive(CyclicBarrier barrier) {
+        try {
+            barrier.await(10, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void awaitLatch(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
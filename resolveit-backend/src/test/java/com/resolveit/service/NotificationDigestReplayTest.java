@@ -0,0 +1,190 @@
+package com.resolveit.service;
+
+import com.resolveit.model.Complaint;
+import com.resolveit.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.test.util.ReflectionTestUtils;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Replays notification event streams through EmailService into the digest
+ * engine with a mocked mail sender and compares the number of messages sent
+ * against the one-email-per-event baseline.
+ */
+class NotificationDigestReplayTest {
+
+    private JavaMailSender mailSender;
+    private NotificationDigestService digestService;
+    private EmailService emailService;
+
+    @BeforeEach
+    void setUp() {
+        mailSender = mock(JavaMailSender.class);
+        digestService = new NotificationDigestService();
+        ReflectionTestUtils.setField(digestService, "mailSender", mailSender);
+        ReflectionTestUtils.setField(digestService, "fromEmail", "support@resolveit.test");
+        // Windows are advanced by the replay itself: every flush closes all open digests
+        ReflectionTestUtils.setField(digestService, "windowSeconds", 0L);
+        ReflectionTestUtils.setField(digestService, "maxEvents", 50);
+
+        emailService = new EmailService();
+        ReflectionTestUtils.setField(emailService, "notificationDigestService", digestService);
+    }
+
+    @Test
+    void burstOnOneComplaintBecomesOneDigest() {
+        User owner = user(1L, "owner", User.NotificationPreference.DIGEST);
+        Complaint complaint = complaint(100L, owner);
+
+        // Submission, then SUBMITTED -> IN_PROGRESS -> UNDER_REVIEW plus two public notes within one window
+        emailService.sendComplaintSubmissionEmail(complaint);
+        emailService.sendStatusUpdateEmail(complaint, Complaint.Status.SUBMITTED, Complaint.Status.IN_PROGRESS);
+        emailService.sendPublicNoteEmail(complaint, "We are looking into it.");
+        emailService.sendStatusUpdateEmail(complaint, Complaint.Status.IN_PROGRESS, Complaint.Status.UNDER_REVIEW);
+        emailService.sendPublicNoteEmail(complaint, "Forwarded to the billing team.");
+        digestService.flushDue();
+
+        // The confirmation goes out on its own, the four updates as one digest
+        assertEquals(5, digestService.getEventsReceived());
+        assertEquals(2, digestService.getMessagesSent());
+
+        ArgumentCaptor<SimpleMailMessage> sent = ArgumentCaptor.forClass(SimpleMailMessage.class);
+        verify(mailSender, times(2)).send(sent.capture());
+        assertTrue(sent.getAllValues().get(0).getSubject().startsWith("Complaint Submitted Successfully"));
+        String body = sent.getAllValues().get(1).getText();
+        assertTrue(body.contains("Status: SUBMITTED -> UNDER_REVIEW"), body);
+        assertTrue(body.contains("We are looking into it.") && body.contains("Forwarded to the billing team."), body);
+    }
+
+    @Test
+    void anonymousSubmitterGetsTrackingCodeWithoutWaitingForADigest() {
+        Complaint complaint = new Complaint("Complaint 200", "Description", Complaint.Category.BILLING, null);
+        complaint.setId(200L);
+        complaint.setAnonymous(true);
+        complaint.setAnonymousEmail("someone@resolveit.test");
+        complaint.setTrackingCode("RI-0000000000000200");
+        complaint.setPriority(Complaint.Priority.MEDIUM);
+        complaint.setStatus(Complaint.Status.SUBMITTED);
+
+        emailService.sendComplaintSubmissionEmail(complaint);
+
+        // Sent before any window closes
+        ArgumentCaptor<SimpleMailMessage> sent = ArgumentCaptor.forClass(SimpleMailMessage.class);
+        verify(mailSender).send(sent.capture());
+        assertTrue(sent.getValue().getText().contains("Tracking Code: RI-0000000000000200"), sent.getValue().getText());
+
+        // Later updates for anonymous complaints are still buffered
+        emailService.sendStatusUpdateEmail(complaint, Complaint.Status.SUBMITTED, Complaint.Status.IN_PROGRESS);
+        assertEquals(1, digestService.getMessagesSent());
+        digestService.flushAll();
+        assertEquals(2, digestService.getMessagesSent());
+    }
+
+    @Test
+    void immediatePreferenceSendsEveryEvent() {
+        User owner = user(1L, "owner", User.NotificationPreference.IMMEDIATE);
+        Complaint complaint = complaint(100L, owner);
+
+        emailService.sendComplaintSubmissionEmail(complaint);
+        emailService.sendStatusUpdateEmail(complaint, Complaint.Status.SUBMITTED, Complaint.Status.IN_PROGRESS);
+        emailService.sendPublicNoteEmail(complaint, "We are looking into it.");
+        digestService.flushDue();
+
+        assertEquals(3, digestService.getMessagesSent());
+    }
+
+    /**
+     * A synthetic day in 10-minute windows: complaints move through their
+     * lifecycle with assignments to a handful of busy moderators. The
+     * baseline is one email per event for every recipient who wants mail.
+     */
+    @Test
+    void replayedDayCutsOutboundVolume() {
+        Random random = new Random(42);
+        int windows = 24 * 6;
+        List<User> users = new ArrayList<>();
+        for (long id = 1; id <= 200; id++) {
+            int roll = random.nextInt(100);
+            users.add(user(id, "user" + id, roll < 10 ? User.NotificationPreference.IMMEDIATE
+                : roll < 15 ? User.NotificationPreference.NONE : User.NotificationPreference.DIGEST));
+        }
+        List<User> moderators = new ArrayList<>();
+        for (long id = 1_001; id <= 1_005; id++) {
+            moderators.add(user(id, "moderator" + id, User.NotificationPreference.DIGEST));
+        }
+
+        List<List<Runnable>> timeline = new ArrayList<>();
+        for (int w = 0; w < windows; w++) {
+            timeline.add(new ArrayList<>());
+        }
+        long baseline = 0;
+        for (long id = 1; id <= 600; id++) {
+            User owner = users.get(random.nextInt(users.size()));
+            User moderator = moderators.get(random.nextInt(moderators.size()));
+            Complaint complaint = complaint(id, owner);
+            boolean ownerWantsMail = owner.getNotificationPreference() != User.NotificationPreference.NONE;
+
+            // Most activity on a complaint happens in a short burst after submission
+            int window = random.nextInt(windows - 3);
+            int next = window;
+            timeline.get(window).add(() -> emailService.sendComplaintSubmissionEmail(complaint));
+            timeline.get(next).add(() -> emailService.sendAssignmentEmail(complaint, moderator));
+            timeline.get(next).add(() -> emailService.sendStatusUpdateEmail(complaint,
+                Complaint.Status.SUBMITTED, Complaint.Status.IN_PROGRESS));
+            next += random.nextInt(2);
+            timeline.get(next).add(() -> emailService.sendStatusUpdateEmail(complaint,
+                Complaint.Status.IN_PROGRESS, Complaint.Status.UNDER_REVIEW));
+            int notes = random.nextInt(3);
+            for (int n = 0; n < notes; n++) {
+                timeline.get(next).add(() -> emailService.sendPublicNoteEmail(complaint, "Progress update"));
+            }
+            next += random.nextInt(2);
+            timeline.get(next).add(() -> emailService.sendStatusUpdateEmail(complaint,
+                Complaint.Status.UNDER_REVIEW, Complaint.Status.RESOLVED));
+            baseline += 1 + (ownerWantsMail ? 4 + notes : 0);
+        }
+
+        for (List<Runnable> windowEvents : timeline) {
+            windowEvents.forEach(Runnable::run);
+            digestService.flushDue();
+        }
+        digestService.flushAll();
+
+        long sent = digestService.getMessagesSent();
+        System.out.printf("Digest replay: %d events, baseline %d emails, sent %d (%.0f%% fewer)%n",
+            digestService.getEventsReceived(), baseline, sent, 100.0 * (baseline - sent) / baseline);
+        assertEquals(baseline, digestService.getEventsReceived());
+        verify(mailSender, atLeastOnce()).send(any(SimpleMailMessage.class));
+        // Submission confirmations are never coalesced, which bounds the saving
+        assertTrue(sent * 10 < baseline * 7, "Expected digests to cut outbound mail by at least 30%, sent " + sent);
+    }
+
+    private static User user(Long id, String name, User.NotificationPreference preference) {
+        User user = new User(name, name + "@resolveit.test", "secret", name, "Tester");
+        user.setId(id);
+        user.setNotificationPreference(preference);
+        return user;
+    }
+
+    private static Complaint complaint(Long id, User owner) {
+        Complaint complaint = new Complaint("Complaint " + id, "Description", Complaint.Category.BILLING, owner);
+        complaint.setId(id);
+        complaint.setPriority(Complaint.Priority.MEDIUM);
+        complaint.setStatus(Complaint.Status.SUBMITTED);
+        return complaint;
+    }
+}
@@ -0,0 +1,42 @@
+package com.resolveit.service;
+
+import com.resolveit.config.SchedulingConfig;
+import com.resolveit.model.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.LazyInitializationBeanFactoryPostProcessor;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * Closes a context with lazy initialization, as in the faststart profile,
+ * while a digest is still open and checks the shutdown flush delivers it.
+ */
+class NotificationDigestShutdownTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+        .withInitializer(context -> context.addBeanFactoryPostProcessor(new LazyInitializationBeanFactoryPostProcessor()))
+        .withPropertyValues("spring.mail.username=support@resolveit.test")
+        .withUserConfiguration(SchedulingConfig.class, NotificationDigestService.class);
+
+    @Test
+    void pendingDigestIsSentWhenALazyContextCloses() {
+        JavaMailSender mailSender = mock(JavaMailSender.class);
+
+        contextRunner.withBean(JavaMailSender.class, () -> mailSender).run(context -> {
+            context.getBean(NotificationDigestService.class).submit(
+                new NotificationEvent(NotificationEvent.Type.STATUS_CHANGED, "owner@resolveit.test", "Owner", 100L,
+                    Map.of("id", "100", "oldStatus", "SUBMITTED", "newStatus", "IN_PROGRESS")),
+                User.NotificationPreference.DIGEST);
+            verifyNoInteractions(mailSender);
+        });
+
+        verify(mailSender).send(any(SimpleMailMessage.class));
+    }
+}
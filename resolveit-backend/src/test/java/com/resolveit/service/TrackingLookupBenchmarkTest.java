@@ -0,0 +1,167 @@
+package com.resolveit.service;
+
+import com.resolveit.config.CacheConfig;
+import com.resolveit.dto.ComplaintTrackingView;
+import com.resolveit.exception.RateLimitExceededException;
+import com.resolveit.model.Complaint;
+import com.resolveit.repository.ComplaintRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Drives the public tracking lookup path at status-page request rates with a
+ * stubbed repository, reporting throughput and how many lookups reach the
+ * database. Thresholds are deliberately loose; the printed numbers are the
+ * benchmark result. Runs with -Pbenchmark only; the limiter cut-off itself is
+ * covered by TrackingLookupRateLimitTest.
+ */
+@Tag("benchmark")
+class TrackingLookupBenchmarkTest {
+
+    private static final int THREADS = 8;
+    private static final int TRACKED_COMPLAINTS = 2_000;
+    private static final int MAX_PER_MINUTE = 30;
+
+    private final Set<String> knownCodes = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger databaseLookups = new AtomicInteger();
+
+    private ComplaintService complaintService;
+    private TrackingLookupRateLimiter rateLimiter;
+    private List<String> codes;
+
+    @BeforeEach
+    void setUp() {
+        codes = new ArrayList<>(TRACKED_COMPLAINTS);
+        for (int i = 0; i < TRACKED_COMPLAINTS; i++) {
+            String code = String.format("RI-%016d", i);
+            codes.add(code);
+            knownCodes.add(code);
+        }
+
+        ComplaintRepository repository = mock(ComplaintRepository.class);
+        when(repository.findTrackingViewByCode(anyString())).thenAnswer(invocation -> {
+            databaseLookups.incrementAndGet();
+            String code = invocation.getArgument(0);
+            return knownCodes.contains(code)
+                ? Optional.of(new ComplaintTrackingView(code, "Title", Complaint.Category.GENERAL,
+                    Complaint.Priority.MEDIUM, Complaint.Status.IN_PROGRESS, LocalDateTime.now(),
+                    LocalDateTime.now(), null, null))
+                : Optional.empty();
+        });
+
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(CacheConfig.COMPLAINT_TRACKING);
+        cacheManager.setCacheSpecification("maximumSize=50000,expireAfterWrite=5m");
+        rateLimiter = new TrackingLookupRateLimiter(MAX_PER_MINUTE, 100_000);
+
+        complaintService = new ComplaintService();
+        ReflectionTestUtils.setField(complaintService, "complaintRepository", repository);
+        ReflectionTestUtils.setField(complaintService, "cacheManager", cacheManager);
+        ReflectionTestUtils.setField(complaintService, "trackingLookupRateLimiter", rateLimiter);
+    }
+
+    @Test
+    void cachedLookupsFromManyClientsStayOffTheDatabase() throws InterruptedException {
+        int lookupsPerThread = 250_000;
+        // Each client stays under its quota: 20 lookups from 100k addresses
+        int clients = THREADS * lookupsPerThread / 20;
+
+        double seconds = runConcurrently(lookupsPerThread, (thread, i) -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            int lookup = thread * lookupsPerThread + i;
+            String client = "10.0." + (lookup % clients);
+            complaintService.trackComplaint(codes.get(random.nextInt(codes.size())), client).orElseThrow();
+        });
+
+        long lookups = (long) THREADS * lookupsPerThread;
+        System.out.printf("Tracking lookups: %d in %.2f s (%.0f/s) from %d clients, %d reached the database%n",
+            lookups, seconds, lookups / seconds, clients, databaseLookups.get());
+        // Only first lookups per code miss; concurrent misses may load a code twice
+        assertTrue(databaseLookups.get() <= TRACKED_COMPLAINTS * THREADS,
+            "Cache hits must not query the database: " + databaseLookups.get());
+    }
+
+    @Test
+    void enumerationFromOneClientIsCutOffBeforeTheDatabase() throws InterruptedException {
+        int attemptsPerThread = 50_000;
+        AtomicLong rejected = new AtomicLong();
+
+        double seconds = runConcurrently(attemptsPerThread, (thread, i) -> {
+            String guess = String.format("RI-%016d", ThreadLocalRandom.current().nextLong(1_000_000_000L));
+            try {
+                complaintService.trackComplaint(guess, "203.0.113.7");
+            } catch (RateLimitExceededException e) {
+                rejected.incrementAndGet();
+            }
+        });
+
+        long attempts = (long) THREADS * attemptsPerThread;
+        System.out.printf("Enumeration: %d guesses in %.2f s (%.0f/s), %d rejected, %d reached the database%n",
+            attempts, seconds, attempts / seconds, rejected.get(), databaseLookups.get());
+        assertEquals(MAX_PER_MINUTE, databaseLookups.get());
+        assertEquals(attempts - MAX_PER_MINUTE, rejected.get());
+    }
+
+    @Test
+    void distributedEnumerationKeepsLimiterCostFlat() throws InterruptedException {
+        int clientsPerThread = 250_000;
+        AtomicLong admitted = new AtomicLong();
+
+        double seconds = runConcurrently(clientsPerThread, (thread, i) -> {
+            if (rateLimiter.tryAcquire("198.18." + thread + "." + i)) {
+                admitted.incrementAndGet();
+            }
+        });
+
+        long clients = (long) THREADS * clientsPerThread;
+        System.out.printf("Distributed enumeration: %d distinct clients in %.2f s (%.0f/s)%n",
+            clients, seconds, clients / seconds);
+        assertEquals(clients, admitted.get());
+    }
+
+    private double runConcurrently(int iterations, Step step) throws InterruptedException {
+        List<Thread> threads = new ArrayList<>(THREADS);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        long started = System.nanoTime();
+        for (int t = 0; t < THREADS; t++) {
+            int thread = t;
+            Thread worker = new Thread(() -> {
+                for (int i = 0; i < iterations; i++) {
+                    step.run(thread, i);
+                }
+            });
+            worker.setUncaughtExceptionHandler((failed, e) -> failure.compareAndSet(null, e));
+            worker.start();
+            threads.add(worker);
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertNull(failure.get(), () -> "Worker failed: " + failure.get());
+        return (System.nanoTime() - started) / 1e9;
+    }
+
+    @FunctionalInterface
+    private interface Step {
+        void run(int thread, int iteration);
+    }
+}
@@ -0,0 +1,65 @@
+package com.resolveit.service;
+
+import com.resolveit.config.CacheConfig;
+import com.resolveit.exception.RateLimitExceededException;
+import com.resolveit.repository.ComplaintRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TrackingLookupRateLimitTest {
+
+    private static final int MAX_PER_MINUTE = 30;
+
+    private ComplaintRepository complaintRepository;
+    private ComplaintService complaintService;
+
+    @BeforeEach
+    void setUp() {
+        complaintRepository = mock(ComplaintRepository.class);
+        when(complaintRepository.findTrackingViewByCode(anyString())).thenReturn(Optional.empty());
+
+        complaintService = new ComplaintService();
+        ReflectionTestUtils.setField(complaintService, "complaintRepository", complaintRepository);
+        ReflectionTestUtils.setField(complaintService, "cacheManager", new CaffeineCacheManager(CacheConfig.COMPLAINT_TRACKING));
+        ReflectionTestUtils.setField(complaintService, "trackingLookupRateLimiter",
+            new TrackingLookupRateLimiter(MAX_PER_MINUTE, 1_000));
+    }
+
+    @Test
+    void enumerationFromOneClientIsCutOffBeforeTheDatabase() {
+        int rejected = 0;
+        for (int i = 0; i < 100; i++) {
+            try {
+                complaintService.trackComplaint(String.format("RI-%016d", i), "203.0.113.7");
+            } catch (RateLimitExceededException e) {
+                rejected++;
+            }
+        }
+
+        assertEquals(100 - MAX_PER_MINUTE, rejected);
+        verify(complaintRepository, times(MAX_PER_MINUTE)).findTrackingViewByCode(anyString());
+    }
+
+    @Test
+    void otherClientsKeepTheirOwnQuota() {
+        for (int i = 0; i < MAX_PER_MINUTE; i++) {
+            complaintService.trackComplaint(String.format("RI-%016d", i), "203.0.113.7");
+        }
+        assertThrows(RateLimitExceededException.class,
+            () -> complaintService.trackComplaint("RI-0000000000000001", "203.0.113.7"));
+
+        assertTrue(complaintService.trackComplaint("RI-0000000000000001", "198.51.100.2").isEmpty());
+    }
+}
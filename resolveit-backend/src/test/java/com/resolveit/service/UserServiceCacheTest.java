@@ -0,0 +1,63 @@
+package com.resolveit.service;
+
+import com.resolveit.config.CacheConfig;
+import com.resolveit.model.User;
+import com.resolveit.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserServiceCacheTest {
+
+    private UserRepository userRepository;
+    private UserService userService;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        userService = new UserService();
+        ReflectionTestUtils.setField(userService, "userRepository", userRepository);
+        ReflectionTestUtils.setField(userService, "cacheManager", new ConcurrentMapCacheManager(CacheConfig.USERS));
+        ReflectionTestUtils.setField(userService, "cacheInvalidationService", mock(CacheInvalidationService.class));
+
+        User stored = new User("ada", "ada@resolveit.test", "secret", "Ada", "Lovelace");
+        stored.setId(1L);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(stored));
+        when(userRepository.findByUsername("ada")).thenReturn(Optional.of(stored));
+    }
+
+    @Test
+    void changesToAReturnedUserDoNotReachTheCache() {
+        User loaded = userService.findById(1L).orElseThrow();
+        loaded.setRole(User.Role.ADMIN);
+        loaded.setEnabled(false);
+
+        User first = userService.findById(1L).orElseThrow();
+        first.setNotificationPreference(User.NotificationPreference.NONE);
+        User second = userService.findById(1L).orElseThrow();
+
+        assertNotSame(first, second);
+        assertEquals(User.Role.USER, second.getRole());
+        assertTrue(second.isEnabled());
+        assertEquals(User.NotificationPreference.DIGEST, second.getNotificationPreference());
+        verify(userRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    void usernameLookupsAreCachedSeparately() {
+        userService.findByUsername("ada").orElseThrow().setFirstName("Changed");
+
+        assertEquals("Ada", userService.findByUsername("ada").orElseThrow().getFirstName());
+        verify(userRepository, times(1)).findByUsername("ada");
+    }
+}